@@ -21,7 +21,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return memberRepository.findByEmail(email)
+        return memberRepository.findByEmailAndDeletedFalse(email)
                 .map(member -> createUserDetails(
                         member,
                         generalMemberRepository.findByMemberId(member.getId()).orElseThrow(GeneralMemberNotFoundException::new).getPassword()
@@ -15,6 +15,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.filter.CorsFilter;
 import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.PUT;
 
 @Configuration
 @RequiredArgsConstructor
@@ -46,15 +47,27 @@ public class SecurityConfig {
     private static final String[] AUTH_WHITELIST_WITH_REVIEW_GET_METHOD = {
             "/api/reviews/all",
             "/api/reviews/simple",
+            "/api/reviews/timeline",
             "/api/reviews"
     };
 
     private static final String[] AUTH_WHITELIST_WITH_COMMUNITY_GET_METHOD = {
             "/api/posts",
             "/api/posts/search",
+            "/api/posts/hot",
             "/api/comments"
     };
 
+    private static final String[] AUTH_WHITELIST_WITH_FILE_GET_METHOD = {
+            "/api/files/**",
+            "/api/images/**"
+    };
+
+    // 서명된 URL 로 올리는 요청이므로 토큰 대신 서명으로 검증한다.
+    private static final String[] AUTH_WHITELIST_WITH_FILE_PUT_METHOD = {
+            "/api/files/uploads/**"
+    };
+
     @Bean
     PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -84,6 +97,10 @@ public class SecurityConfig {
                         .permitAll()
                         .antMatchers(GET, AUTH_WHITELIST_WITH_COMMUNITY_GET_METHOD)
                         .permitAll()
+                        .antMatchers(GET, AUTH_WHITELIST_WITH_FILE_GET_METHOD)
+                        .permitAll()
+                        .antMatchers(PUT, AUTH_WHITELIST_WITH_FILE_PUT_METHOD)
+                        .permitAll()
                         .anyRequest()
                         .authenticated()
                 ).build();
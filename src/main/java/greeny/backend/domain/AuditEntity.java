@@ -34,7 +34,11 @@ public class AuditEntity {
         this.updatedAt = formatDateTime();
     }
 
-    private String formatDateTime() {
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    public static String formatDateTime() {
+        return formatDateTime(LocalDateTime.now());
+    }
+
+    public static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
     }
 }
\ No newline at end of file
@@ -1,16 +1,20 @@
 package greeny.backend.domain.comment.application;
 
+import greeny.backend.domain.AuditEntity;
 import greeny.backend.domain.comment.presentation.dto.WriteCommentRequestDto;
 import greeny.backend.domain.comment.entity.Comment;
 import greeny.backend.domain.member.entity.Member;
-import greeny.backend.domain.post.entity.Post;
+import greeny.backend.domain.post.application.HotPostRanking;
 import greeny.backend.domain.comment.entity.CommentRepository;
 import greeny.backend.domain.post.entity.PostRepository;
 import greeny.backend.domain.comment.presentation.dto.GetSimpleCommentInfosResponseDto;
 import greeny.backend.exception.situation.comment.CommentNotFoundException;
 import greeny.backend.exception.situation.member.MemberNotEqualsException;
 import greeny.backend.exception.situation.post.PostNotFoundException;
+import greeny.backend.response.Cursor;
+import greeny.backend.response.CursorPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -20,13 +24,23 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final HotPostRanking hotPostRanking;
 
     @Transactional
-    public void writeComment(Long postId, WriteCommentRequestDto writeCommentRequestDto, Member writer) {
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
-        commentRepository.save(writeCommentRequestDto.toEntity(post, writer));
+    public void writeComment(Long postId, Long parentId, WriteCommentRequestDto writeCommentRequestDto, Member writer) {
+        if (postRepository.updateCommentCount(postId, 1) == 0) {
+            throw new PostNotFoundException();
+        }
+        Comment parent = parentId == null
+                ? null
+                : commentRepository.findByIdAndPostId(parentId, postId).orElseThrow(CommentNotFoundException::new);
+        Comment comment = commentRepository.save(writeCommentRequestDto.toEntity(postRepository.getReferenceById(postId), writer, parentId));
+        comment.assignPath(parent);
+        hotPostRanking.onComment(postId, 1);
     }
 
     @Transactional(readOnly = true)
@@ -34,7 +48,7 @@ public class CommentService {
         if(!postRepository.existsById(postId)) {
             throw new PostNotFoundException();
         }
-        return commentRepository.findAllByPostId(postId).stream()
+        return commentRepository.findAllByPostIdOrderByPathAsc(postId).stream()
                 .map(comment -> GetSimpleCommentInfosResponseDto.from(comment, false))
                 .collect(Collectors.toList());
     }
@@ -44,11 +58,50 @@ public class CommentService {
         if(!postRepository.existsById(postId)) {
             throw new PostNotFoundException();
         }
-        return commentRepository.findAllByPostId(postId).stream()
+        return commentRepository.findAllByPostIdOrderByPathAsc(postId).stream()
                 .map(comment -> GetSimpleCommentInfosResponseDto.from(comment, isWriter(comment, currentMember)))
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<GetSimpleCommentInfosResponseDto> getSimpleCommentInfosByCursor(Long postId, String cursor, int size) {
+        size = clampPageSize(size);
+        return CursorPage.of(
+                getCommentsByCursor(postId, cursor, size),
+                size,
+                comment -> Cursor.encode(comment.getPath()),
+                comment -> GetSimpleCommentInfosResponseDto.from(comment, false)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<GetSimpleCommentInfosResponseDto> getSimpleCommentInfosWithAuthMemberByCursor(
+            Long postId,
+            String cursor,
+            int size,
+            Member currentMember
+    ) {
+        size = clampPageSize(size);
+        return CursorPage.of(
+                getCommentsByCursor(postId, cursor, size),
+                size,
+                comment -> Cursor.encode(comment.getPath()),
+                comment -> GetSimpleCommentInfosResponseDto.from(comment, isWriter(comment, currentMember))
+        );
+    }
+
+    // 0 이하는 한 개, MAX_PAGE_SIZE 초과는 MAX_PAGE_SIZE 개로 맞춘다.
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private List<Comment> getCommentsByCursor(Long postId, String cursor, int size) {
+        if(!postRepository.existsById(postId)) {
+            throw new PostNotFoundException();
+        }
+        return commentRepository.findAllByPostIdAndCursor(postId, Cursor.decode(cursor, 1).getString(0, ""), PageRequest.of(0, size + 1));
+    }
+
     @Transactional(readOnly = true)
     public Boolean isWriter(Comment comment, Member currentMember){
         return comment.getWriter().getId().equals(currentMember.getId());
@@ -56,19 +109,31 @@ public class CommentService {
 
     @Transactional
     public void editCommentInfo(Long commentId, WriteCommentRequestDto editCommentInfoRequestDto, Member currentMember) {
-        Comment comment = commentRepository.findByIdWithWriter(commentId).orElseThrow(CommentNotFoundException::new);
-        if(!comment.getWriter().getId().equals(currentMember.getId())) {
-            throw new MemberNotEqualsException();
+        int updated = commentRepository.updateContentByIdAndWriterId(
+                commentId,
+                currentMember.getId(),
+                editCommentInfoRequestDto.getContent(),
+                AuditEntity.formatDateTime()
+        );
+        if (updated == 0) {
+            throw notUpdatableException(commentId);
         }
-        comment.update(editCommentInfoRequestDto.getContent());
     }
 
+    // 답글은 남겨두고 해당 댓글만 삭제한다.
     @Transactional
     public void deleteComment(Long commentId, Member currentMember) {
-        Comment comment = commentRepository.findByIdWithWriter(commentId).orElseThrow(CommentNotFoundException::new);
-        if(!comment.getWriter().getId().equals(currentMember.getId())) {
-            throw new MemberNotEqualsException();
+        if (commentRepository.decreasePostCommentCountByIdAndWriterId(commentId, currentMember.getId()) == 0) {
+            throw notUpdatableException(commentId);
         }
-        commentRepository.delete(comment);
+        // 댓글 수를 줄인 갱신이 행을 잠그고 있으므로 게시글 id 를 안전하게 읽을 수 있다.
+        Long postId = commentRepository.findPostIdById(commentId).orElseThrow(CommentNotFoundException::new);
+        commentRepository.deleteByIdAndWriterId(commentId, currentMember.getId());
+        hotPostRanking.onComment(postId, -1);
+    }
+
+    // 작성자 조건으로 변경된 행이 없는 경우 댓글 존재 여부로 원인을 구분
+    private RuntimeException notUpdatableException(Long commentId) {
+        return commentRepository.existsById(commentId) ? new MemberNotEqualsException() : new CommentNotFoundException();
     }
 }
\ No newline at end of file
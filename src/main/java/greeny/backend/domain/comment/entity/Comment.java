@@ -11,8 +11,13 @@ import javax.persistence.*;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
+@Table(indexes = @Index(name = "idx_comment_post_path", columnList = "post_id, path"))
 public class Comment extends AuditEntity {
 
+    private static final int PATH_SEGMENT_LENGTH = 10;
+    private static final int MAX_DEPTH = 10;
+    private static final String PATH_DELIMITER = "/";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "comment_id")
@@ -29,7 +34,42 @@ public class Comment extends AuditEntity {
     @Column(nullable = false)
     private String content;
 
+    // 대댓글인 경우 부모 댓글 id (최상위 댓글은 null)
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 조상 댓글 id 들을 자릿수를 맞춰 이어붙인 경로. 사전순으로 정렬하면 스레드 표시 순서가 된다.
+    @Column(length = 255)
+    private String path;
+
     public void update(String content) {
         this.content = content;
     }
-}
\ No newline at end of file
+
+    // id 가 발급된 후 경로를 지정하며, 최대 깊이에 도달한 댓글의 답글은 같은 깊이에 위치시킨다.
+    public void assignPath(Comment parent) {
+        String segment = segmentOf(id);
+        if (parent == null) {
+            this.path = segment;
+            return;
+        }
+        String parentPath = parent.getPathOrDefault();
+        if (parent.getDepth() >= MAX_DEPTH) {
+            parentPath = parentPath.substring(0, parentPath.lastIndexOf(PATH_DELIMITER));
+        }
+        this.path = parentPath + PATH_DELIMITER + segment;
+    }
+
+    public int getDepth() {
+        return getPathOrDefault().length() / (PATH_SEGMENT_LENGTH + 1);
+    }
+
+    // 경로를 채우기 전에 작성된 댓글은 답글이 없던 최상위 댓글이므로 자신의 id 만으로 된 경로로 취급한다.
+    private String getPathOrDefault() {
+        return path != null ? path : segmentOf(id);
+    }
+
+    private static String segmentOf(Long id) {
+        return String.format("%0" + PATH_SEGMENT_LENGTH + "d", id);
+    }
+}
@@ -1,7 +1,9 @@
 package greeny.backend.domain.comment.entity;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
@@ -10,8 +12,40 @@ import java.util.Optional;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @EntityGraph(attributePaths = {"writer"})
-    List<Comment> findAllByPostId(Long postId);
+    List<Comment> findAllByPostIdOrderByPathAsc(Long postId);
 
-    @Query("select c from Comment c join fetch c.writer WHERE c.id = :id")
-    Optional<Comment> findByIdWithWriter(@Param("id") Long id);
-}
\ No newline at end of file
+    // (post_id, path) 인덱스 범위 조회로 스레드 표시 순서대로 다음 페이지를 가져온다.
+    @Query("select c from Comment c join fetch c.writer where c.post.id = :postId and c.path > :path order by c.path asc")
+    List<Comment> findAllByPostIdAndCursor(@Param("postId") Long postId, @Param("path") String path, Pageable pageable);
+
+    Optional<Comment> findByIdAndPostId(Long id, Long postId);
+
+    @Query("select c.post.id from Comment c where c.id = :id")
+    Optional<Long> findPostIdById(@Param("id") Long id);
+
+    // bulk 수정이므로 수정 시각을 직접 지정한다.
+    @Modifying
+    @Query("update Comment c set c.content = :content, c.updatedAt = :now where c.id = :id and c.writer.id = :writerId")
+    int updateContentByIdAndWriterId(
+            @Param("id") Long id,
+            @Param("writerId") Long writerId,
+            @Param("content") String content,
+            @Param("now") String now
+    );
+
+    // 작성자가 일치하는 경우에만 게시글의 댓글 수를 줄인다.
+    @Modifying
+    @Query(value = "update Post p join Comment c on c.post_id = p.post_id " +
+            "set p.comment_count = p.comment_count - 1 " +
+            "where c.comment_id = :id and c.writer_id = :writerId",
+            nativeQuery = true)
+    int decreasePostCommentCountByIdAndWriterId(@Param("id") Long id, @Param("writerId") Long writerId);
+
+    @Modifying
+    @Query("delete from Comment c where c.id = :id and c.writer.id = :writerId")
+    int deleteByIdAndWriterId(@Param("id") Long id, @Param("writerId") Long writerId);
+
+    @Modifying
+    @Query("delete from Comment c where c.post.id in (select p.id from Post p where p.id = :postId and p.writer.id = :writerId)")
+    int deleteAllByPostIdAndWriterId(@Param("postId") Long postId, @Param("writerId") Long writerId);
+}
@@ -3,6 +3,7 @@ package greeny.backend.domain.comment.presentation.controller;
 import greeny.backend.domain.comment.presentation.dto.WriteCommentRequestDto;
 import greeny.backend.domain.comment.application.CommentService;
 import greeny.backend.domain.member.application.MemberService;
+import greeny.backend.infrastructure.idempotency.IdempotencyStore;
 import greeny.backend.response.Response;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,26 +24,56 @@ public class CommentController {
 
     private final CommentService commentService;
     private final MemberService memberService;
+    private final IdempotencyStore idempotencyStore;
 
     @PostMapping
     @ResponseStatus(OK)
-    @Operation(summary = "Write comment API", description = "Put post id and comment info to write.")
-    public Response writeComment(Long postId, @Valid @RequestBody WriteCommentRequestDto writeCommentRequestDto) {
-        commentService.writeComment(postId, writeCommentRequestDto, memberService.getCurrentMember());
-        return success(SUCCESS_TO_WRITE_COMMENT);
+    @Operation(summary = "Write comment API", description = "Put post id and comment info to write. Put parent id to write a reply. " +
+            "Put Idempotency-Key header to retry safely, the same key returns the first response and reusing it with a different body returns 422.")
+    public Response writeComment(
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            Long postId,
+            @RequestParam(required = false) Long parentId,
+            @Valid @RequestBody WriteCommentRequestDto writeCommentRequestDto
+    ) {
+        return idempotencyStore.execute("comment:" + postId + ":" + parentId, idempotencyKey, writeCommentRequestDto, () -> {
+            commentService.writeComment(postId, parentId, writeCommentRequestDto, memberService.getCurrentMember());
+            return success(SUCCESS_TO_WRITE_COMMENT);
+        });
     }
 
     @GetMapping
     @ResponseStatus(OK)
-    @Operation(summary = "Get simple comment infos API", description = "Put post id to get comment list.")
-    public Response getSimpleCommentInfos(Long postId){
+    @Operation(summary = "Get simple comment infos API",
+            description = "Put post id to get comment list. 답글은 부모 댓글 바로 뒤에 depth 와 함께 표시 순서대로 반환됩니다." +
+                    " cursor를 전달하면 (첫 페이지는 빈 값) size 만큼 나누어 다음 페이지 cursor와 함께 반환합니다. size 는 1 ~ 100 으로 맞춰집니다.")
+    public Response getSimpleCommentInfos(
+            Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        if (cursor != null) {
+            return success(SUCCESS_TO_GET_COMMENT_LIST, commentService.getSimpleCommentInfosByCursor(postId, cursor, size));
+        }
         return success(SUCCESS_TO_GET_COMMENT_LIST, commentService.getSimpleCommentInfos(postId));
     }
 
     @GetMapping("/auth")
     @ResponseStatus(OK)
-    @Operation(summary = "Get simple comment infos with auth member API", description = "Put post id to get comment list.")
-    public Response getSimpleCommentInfosWithAuthMember(Long postId){
+    @Operation(summary = "Get simple comment infos with auth member API",
+            description = "Put post id to get comment list. 답글은 부모 댓글 바로 뒤에 depth 와 함께 표시 순서대로 반환됩니다." +
+                    " cursor를 전달하면 (첫 페이지는 빈 값) size 만큼 나누어 다음 페이지 cursor와 함께 반환합니다. size 는 1 ~ 100 으로 맞춰집니다.")
+    public Response getSimpleCommentInfosWithAuthMember(
+            Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ){
+        if (cursor != null) {
+            return success(
+                    SUCCESS_TO_GET_COMMENT_LIST,
+                    commentService.getSimpleCommentInfosWithAuthMemberByCursor(postId, cursor, size, memberService.getCurrentMember())
+            );
+        }
         return success(SUCCESS_TO_GET_COMMENT_LIST, commentService.getSimpleCommentInfosWithAuthMember(postId, memberService.getCurrentMember()));
     }
 
@@ -16,6 +16,8 @@ public class GetSimpleCommentInfosResponseDto {
     private String writerEmail;
     private String content;
     private Boolean isWriter;
+    private Long parentId;
+    private Integer depth;
 
     public static GetSimpleCommentInfosResponseDto from(Comment comment, Boolean isWriter) {
         return GetSimpleCommentInfosResponseDto.builder()
@@ -25,6 +27,8 @@ public class GetSimpleCommentInfosResponseDto {
                 .updatedAt(comment.getUpdatedAt())
                 .content(comment.getContent())
                 .isWriter(isWriter)
+                .parentId(comment.getParentId())
+                .depth(comment.getDepth())
                 .build();
     }
 }
\ No newline at end of file
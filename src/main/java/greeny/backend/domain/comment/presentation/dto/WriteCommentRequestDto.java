@@ -19,11 +19,12 @@ public class WriteCommentRequestDto {
     @Schema(description = "글 내용", defaultValue = "요즘은 비가 많이 와서 덜 더워요.")
     private String content;
 
-    public Comment toEntity(Post post, Member writer){
+    public Comment toEntity(Post post, Member writer, Long parentId){
         return Comment.builder()
                 .post(post)
                 .writer(writer)
                 .content(this.content)
+                .parentId(parentId)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package greeny.backend.domain.file.application;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 문자열 집합의 포함 여부를 비트 배열로 판별하는 Bloom filter.
+ * 넣은 값은 항상 포함된다고 답하고, 넣지 않은 값은 falsePositiveRate 확률로 잘못 포함된다고 답한다.
+ */
+class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long[] bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(expectedInsertions, 1);
+        double ln2 = Math.log(2);
+        long optimalBitSize = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bits = new long[Math.toIntExact(Math.max(1, (optimalBitSize + 63) / 64))];
+        this.bitSize = bits.length * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * ln2));
+    }
+
+    void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 로 구한 값을 섞어 비트가 고르게 퍼지도록 한다.
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
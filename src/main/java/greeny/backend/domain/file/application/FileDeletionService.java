@@ -0,0 +1,166 @@
+package greeny.backend.domain.file.application;
+
+import greeny.backend.domain.file.entity.FileDeletion;
+import greeny.backend.domain.file.entity.FileDeletionRepository;
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.infrastructure.image.ImageCache;
+import greeny.backend.infrastructure.image.ImageVariant;
+import greeny.backend.infrastructure.storage.FileStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 삭제할 파일을 호출한 쪽의 트랜잭션 안에서 아웃박스 테이블에 기록하고,
+ * 커밋된 후 백그라운드에서 다건 삭제 요청으로 모아서 삭제한다.
+ * 롤백되면 아웃박스 행도 함께 사라지므로 파일이 먼저 삭제되는 일이 없다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FileDeletionService {
+
+    // S3 다건 삭제 요청 한 번에 보낼 수 있는 최대 키 개수
+    private static final int BATCH_SIZE = 1000;
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final FileStorage fileStorage;
+    private final ImageCache imageCache;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    @Value("${file-deletion.max-retries:10}")
+    private int maxRetries;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(List<String> fileKeys) {
+        List<String> unreferencedFileKeys = fileKeys.stream()
+                .filter(this::release)
+                .collect(Collectors.toList());
+        if (unreferencedFileKeys.isEmpty()) {
+            return;
+        }
+        // 이미지의 축소본도 함께 삭제한다.
+        fileDeletionRepository.saveAll(unreferencedFileKeys.stream()
+                .flatMap(fileKey -> Stream.concat(
+                        Stream.of(FileDeletion.of(fileKey)),
+                        ImageVariant.keysOf(fileKey).stream().map(variantKey -> FileDeletion.ofVariant(variantKey, fileKey))))
+                .collect(Collectors.toList()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                taskScheduler.schedule(FileDeletionService.this::drain, Instant.now());
+            }
+        });
+    }
+
+    // 참조 수를 줄이고, 더 이상 참조하는 곳이 없으면 true 를 반환한다.
+    // 참조 수를 관리하기 전에 올라간 파일은 행이 없으므로 바로 삭제 대상이 된다.
+    private boolean release(String fileKey) {
+        if (storedFileRepository.decreaseRefCount(fileKey) == 0) {
+            return true;
+        }
+        return storedFileRepository.deleteUnreferenced(fileKey) == 1;
+    }
+
+    // 커밋 직후 실행이 실패했거나 서버가 재시작된 경우를 위해 주기적으로 남은 파일을 삭제한다.
+    @Scheduled(fixedDelayString = "${file-deletion.fixed-delay-ms:30000}")
+    public void drain() {
+        drainRequested.set(true);
+        while (drainRequested.get() && draining.compareAndSet(false, true)) {
+            try {
+                drainRequested.set(false);
+                purgeDeadLetters();
+                drainBatches();
+            } catch (RuntimeException e) {
+                log.warn("Failed to drain file deletion outbox, will retry on next run", e);
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    // 최대 재시도 횟수만큼 실패한 행은 더 시도하지 않고 키를 남긴 뒤 지운다.
+    // 저장소에 남은 파일은 참조되지 않으므로 FileReconciliationService 가 나중에 삭제한다.
+    private void purgeDeadLetters() {
+        List<FileDeletion> deadLetters;
+        do {
+            deadLetters = fileDeletionRepository.findByRetryCountGreaterThanEqualOrderByIdAsc(maxRetries, PageRequest.of(0, BATCH_SIZE));
+            if (deadLetters.isEmpty()) {
+                return;
+            }
+            log.error("Giving up deleting {} files after {} retries, leaving them to reconciliation: {}", deadLetters.size(), maxRetries,
+                    deadLetters.stream().map(FileDeletion::getFileKey).collect(Collectors.toList()));
+            fileDeletionRepository.deleteAllByIdInBatch(deadLetters.stream().map(FileDeletion::getId).collect(Collectors.toList()));
+        } while (deadLetters.size() == BATCH_SIZE);
+    }
+
+    private void drainBatches() {
+        List<FileDeletion> fileDeletions;
+        do {
+            fileDeletions = fileDeletionRepository.findByRetryCountLessThanOrderByIdAsc(maxRetries, PageRequest.of(0, BATCH_SIZE));
+            if (fileDeletions.isEmpty()) {
+                return;
+            }
+        } while (deleteBatch(fileDeletions) && fileDeletions.size() == BATCH_SIZE);
+    }
+
+    // 실패한 파일은 재시도 횟수만 늘리고 다음 실행에서 다시 시도한다.
+    // 삭제 대기 중에 같은 내용이 다시 업로드되어 참조되고 있는 파일은 축소본까지 삭제하지 않는다.
+    // 참조 확인부터 저장소 삭제까지 StoredFile 키를 잠가, 그 사이에 같은 내용을 다시 올린 파일이 지워지지 않게 한다.
+    private boolean deleteBatch(List<FileDeletion> fileDeletions) {
+        List<Long> failedIds = transactionTemplate.execute(status -> {
+            Set<String> referencedKeys = new HashSet<>(storedFileRepository.findFileKeysByFileKeyInForUpdate(
+                    fileDeletions.stream().map(FileDeletion::getReferenceKey).collect(Collectors.toSet())));
+            List<String> unreferencedKeys = fileDeletions.stream()
+                    .filter(fileDeletion -> !referencedKeys.contains(fileDeletion.getReferenceKey()))
+                    .map(FileDeletion::getFileKey)
+                    .distinct()
+                    .collect(Collectors.toList());
+            Set<String> failedKeys = new HashSet<>(fileStorage.deleteAll(unreferencedKeys));
+            unreferencedKeys.stream()
+                    .filter(fileKey -> !failedKeys.contains(fileKey))
+                    .forEach(imageCache::evict);
+            List<Long> deletedIds = fileDeletions.stream()
+                    .filter(fileDeletion -> !failedKeys.contains(fileDeletion.getFileKey()))
+                    .map(FileDeletion::getId)
+                    .collect(Collectors.toList());
+            List<Long> failedDeletionIds = fileDeletions.stream()
+                    .filter(fileDeletion -> failedKeys.contains(fileDeletion.getFileKey()))
+                    .map(FileDeletion::getId)
+                    .collect(Collectors.toList());
+
+            if (!deletedIds.isEmpty()) {
+                fileDeletionRepository.deleteAllByIdInBatch(deletedIds);
+            }
+            if (!failedDeletionIds.isEmpty()) {
+                fileDeletionRepository.increaseRetryCount(failedDeletionIds);
+            }
+            return failedDeletionIds;
+        });
+        if (!failedIds.isEmpty()) {
+            log.warn("Failed to delete {} of {} files, will retry on next run", failedIds.size(), fileDeletions.size());
+        }
+        return failedIds.isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package greeny.backend.domain.file.application;
+
+import greeny.backend.domain.file.entity.FileReferenceRepository;
+import greeny.backend.infrastructure.image.ImageCache;
+import greeny.backend.infrastructure.image.ImageVariant;
+import greeny.backend.infrastructure.storage.FilePage;
+import greeny.backend.infrastructure.storage.FileStorage;
+import greeny.backend.infrastructure.storage.FileSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 어떤 행도 참조하지 않는 저장소 파일을 찾아 삭제한다.
+ * 참조되는 파일 이름으로 Bloom filter 를 만든 뒤 저장소 목록을 한 페이지씩 읽으며 filter 에 없는 파일만 후보로 삼으므로,
+ * 파일 수와 관계없이 filter 크기와 한 페이지만큼의 메모리를 사용한다.
+ * 업로드 직후 아직 글이나 리뷰에 첨부되지 않은 파일을 지우지 않도록 유예 기간보다 오래된 파일만 삭제한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FileReconciliationService {
+
+    // S3 목록 조회와 다건 삭제 요청 한 번에 다룰 수 있는 최대 키 개수
+    private static final int BATCH_SIZE = 1000;
+
+    private final FileReferenceRepository fileReferenceRepository;
+    private final FileStorage fileStorage;
+    private final ImageCache imageCache;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${file-reconciliation.grace-hours:24}")
+    private long graceHours;
+    @Value("${file-reconciliation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Scheduled(cron = "${file-reconciliation.cron:0 0 4 * * *}")
+    public void reconcileOnSchedule() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile orphaned files, will retry on next run", e);
+        }
+    }
+
+    /**
+     * 삭제한 파일 수를 반환한다. 이미 실행 중이면 실행하지 않고 0 을 반환한다.
+     */
+    public long reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            // 목록보다 filter 를 먼저 만들어야, filter 를 만든 뒤 생긴 참조의 파일은 유예 기간에 걸러진다.
+            Instant modifiedBefore = Instant.now().minus(Duration.ofHours(graceHours));
+            BloomFilter referencedKeys = buildReferencedKeys();
+            return deleteOrphans(referencedKeys, modifiedBefore);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 이미지의 축소본은 URL 이 기록되기 전에도 만들어지므로 원본 이름으로부터 축소본 이름을 함께 넣는다.
+    private BloomFilter buildReferencedKeys() {
+        long expectedInsertions = fileReferenceRepository.countReferences() * (1 + ImageVariant.values().length);
+        BloomFilter referencedKeys = new BloomFilter(expectedInsertions, falsePositiveRate);
+        fileReferenceRepository.forEachReference(BATCH_SIZE, fileKey -> {
+            referencedKeys.put(fileKey);
+            ImageVariant.keysOf(fileKey).forEach(referencedKeys::put);
+        });
+        return referencedKeys;
+    }
+
+    private long deleteOrphans(BloomFilter referencedKeys, Instant modifiedBefore) {
+        long scanned = 0;
+        long deleted = 0;
+        List<String> candidates = new ArrayList<>();
+        String pageToken = null;
+        do {
+            FilePage page = fileStorage.listFiles(pageToken, BATCH_SIZE);
+            for (FileSummary file : page.getFiles()) {
+                scanned++;
+                if (file.getLastModified().isBefore(modifiedBefore) && !referencedKeys.mightContain(file.getFileName())) {
+                    candidates.add(file.getFileName());
+                }
+                if (candidates.size() == BATCH_SIZE) {
+                    deleted += deleteBatch(candidates);
+                    candidates.clear();
+                }
+            }
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+        if (!candidates.isEmpty()) {
+            deleted += deleteBatch(candidates);
+        }
+        log.info("Reconciled orphaned files: scanned={}, deleted={}", scanned, deleted);
+        return deleted;
+    }
+
+    // filter 를 만든 뒤 같은 내용이 다시 업로드되어 참조된 파일은 삭제하지 않도록 DB 에서 한 번 더 확인한다.
+    // 삭제하지 못한 파일은 다음 실행에서 다시 후보가 된다.
+    private int deleteBatch(List<String> candidates) {
+        Set<String> referencedKeys = fileReferenceRepository.findReferencedKeys(candidates);
+        List<String> orphans = candidates.stream()
+                .filter(candidate -> !referencedKeys.contains(candidate))
+                .collect(Collectors.toList());
+        List<String> failedKeys = fileStorage.deleteAll(orphans);
+        orphans.stream()
+                .filter(orphan -> !failedKeys.contains(orphan))
+                .forEach(imageCache::evict);
+        if (!failedKeys.isEmpty()) {
+            log.warn("Failed to delete {} of {} orphaned files, will retry on next run", failedKeys.size(), orphans.size());
+        }
+        return orphans.size() - failedKeys.size();
+    }
+}
@@ -0,0 +1,223 @@
+package greeny.backend.domain.file.application;
+
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.file.entity.ResumableUpload;
+import greeny.backend.domain.file.entity.ResumableUploadRepository;
+import greeny.backend.domain.file.presentation.dto.ResumableUploadResponseDto;
+import greeny.backend.exception.situation.common.FileUploadFailureException;
+import greeny.backend.exception.situation.common.InvalidUploadLengthException;
+import greeny.backend.exception.situation.common.ResumableUploadNotFoundException;
+import greeny.backend.exception.situation.common.UploadOffsetConflictException;
+import greeny.backend.infrastructure.storage.FileService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 큰 파일을 고정 크기 조각으로 나누어 올리는 이어 올리기 업로드.
+ * 클라이언트는 연결이 끊기면 현재 위치를 확인한 뒤 그 위치부터 다시 보낸다.
+ * 조각은 받은 서버의 임시 파일에 위치를 지정해 쓰므로, 같은 업로드의 요청은 같은 서버로 보내야 한다.
+ */
+@Service
+@Slf4j
+public class ResumableUploadService {
+
+    private static final int CLEANUP_BATCH_SIZE = 100;
+    private static final String STAGING_FILE_SUFFIX = ".part";
+
+    private final ResumableUploadRepository resumableUploadRepository;
+    private final FileService fileService;
+    private final FileDeletionService fileDeletionService;
+    private final TransactionTemplate transactionTemplate;
+    private final Path stagingDirectory;
+
+    // 같은 업로드에 조각이 동시에 들어오면 하나만 쓰도록 한다.
+    private final Set<Long> writingUploadIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${resumable-upload.chunk-size:5242880}")
+    private int chunkSize;
+    @Value("${file-upload.max-size:20971520}")
+    private long maxFileSize;
+    @Value("${resumable-upload.expiration-hours:24}")
+    private long expirationHours;
+
+    public ResumableUploadService(
+            ResumableUploadRepository resumableUploadRepository,
+            FileService fileService,
+            FileDeletionService fileDeletionService,
+            TransactionTemplate transactionTemplate,
+            @Value("${resumable-upload.staging-dir:${java.io.tmpdir}/greeny-uploads}") String stagingDirectory
+    ) throws IOException {
+        this.resumableUploadRepository = resumableUploadRepository;
+        this.fileService = fileService;
+        this.fileDeletionService = fileDeletionService;
+        this.transactionTemplate = transactionTemplate;
+        this.stagingDirectory = Files.createDirectories(Paths.get(stagingDirectory)).toAbsolutePath().normalize();
+    }
+
+    public ResumableUploadResponseDto create(String fileName, String contentType, long length, Long uploaderId) {
+        if (length > maxFileSize) {
+            throw new InvalidUploadLengthException();
+        }
+        // 확장자가 없으면 조각을 모두 받은 뒤가 아니라 지금 실패시킨다.
+        if (fileName.lastIndexOf('.') < 0) {
+            throw new StringIndexOutOfBoundsException();
+        }
+        ResumableUpload resumableUpload = resumableUploadRepository.save(ResumableUpload.builder()
+                .uploaderId(uploaderId)
+                .fileName(fileName)
+                .contentType(contentType)
+                .length(length)
+                .build());
+        return toResponseDto(resumableUpload);
+    }
+
+    public ResumableUploadResponseDto getStatus(Long uploadId, Long uploaderId) {
+        return toResponseDto(getResumableUpload(uploadId, uploaderId));
+    }
+
+    /**
+     * offset 위치부터 조각 하나를 이어 쓴다. 마지막 조각이 아니면 조각 크기는 chunkSize 와 같아야 한다.
+     * 모든 조각을 받으면 임시 파일을 저장소에 올리고 업로드를 끝낸다.
+     * 모두 받았지만 저장소에 올리지 못했다면 마지막 위치에서 빈 조각을 보내 다시 시도할 수 있다.
+     */
+    public ResumableUploadResponseDto appendChunk(Long uploadId, long offset, InputStream inputStream, long chunkLength, Long uploaderId) {
+        ResumableUpload resumableUpload = getResumableUpload(uploadId, uploaderId);
+        if (resumableUpload.isCompleted()) {
+            return toResponseDto(resumableUpload);
+        }
+        if (offset != resumableUpload.getUploadedLength()) {
+            throw new UploadOffsetConflictException();
+        }
+        if (chunkLength != Math.min(chunkSize, resumableUpload.getLength() - offset)) {
+            throw new InvalidUploadLengthException();
+        }
+        if (!writingUploadIds.add(uploadId)) {
+            throw new UploadOffsetConflictException();
+        }
+
+        try {
+            Path stagingFile = resolveStagingFile(uploadId);
+            writeChunk(stagingFile, offset, inputStream, chunkLength);
+            long uploadedLength = offset + chunkLength;
+            if (resumableUploadRepository.advance(uploadId, offset, uploadedLength, AuditEntity.formatDateTime()) == 0) {
+                throw new UploadOffsetConflictException();
+            }
+            if (uploadedLength < resumableUpload.getLength()) {
+                return ResumableUploadResponseDto.of(resumableUpload, uploadedLength, false, chunkSize);
+            }
+            complete(resumableUpload, stagingFile);
+            return ResumableUploadResponseDto.of(resumableUpload, uploadedLength, true, chunkSize);
+        } finally {
+            writingUploadIds.remove(uploadId);
+        }
+    }
+
+    // 오래 진행되지 않은 업로드의 임시 파일을 지우고, 끝났지만 글이나 리뷰에 첨부되지 않은 파일은 참조를 되돌린다.
+    @Scheduled(fixedDelayString = "${resumable-upload.cleanup-fixed-delay-ms:3600000}")
+    public void removeExpiredUploads() {
+        String expiredBefore = AuditEntity.formatDateTime(LocalDateTime.now().minusHours(expirationHours));
+        List<ResumableUpload> expiredUploads;
+        do {
+            expiredUploads = resumableUploadRepository.findByUpdatedAtLessThanOrderByIdAsc(expiredBefore, PageRequest.of(0, CLEANUP_BATCH_SIZE));
+            if (expiredUploads.isEmpty()) {
+                return;
+            }
+            List<ResumableUpload> uploads = expiredUploads;
+            transactionTemplate.executeWithoutResult(status -> {
+                // 그 사이 글이나 리뷰에 첨부되어 지워진 업로드는 참조를 넘겨주었으므로 되돌리지 않는다.
+                List<String> unattachedFileKeys = new ArrayList<>();
+                for (ResumableUpload upload : uploads) {
+                    if (resumableUploadRepository.deleteExpired(upload.getId(), expiredBefore) == 1 && upload.isCompleted()) {
+                        unattachedFileKeys.add(upload.getFileKey());
+                    }
+                }
+                if (!unattachedFileKeys.isEmpty()) {
+                    fileDeletionService.enqueue(unattachedFileKeys);
+                }
+            });
+            uploads.forEach(upload -> deleteStagingFileQuietly(resolveStagingFile(upload.getId())));
+        } while (expiredUploads.size() == CLEANUP_BATCH_SIZE);
+    }
+
+    private void complete(ResumableUpload resumableUpload, Path stagingFile) {
+        String fileKey = fileService.uploadFile(
+                new FileSystemResource(stagingFile),
+                resumableUpload.getFileName(),
+                resumableUpload.getLength(),
+                resumableUpload.getContentType()
+        );
+        if (resumableUploadRepository.complete(resumableUpload.getId(), fileKey, AuditEntity.formatDateTime()) == 0) {
+            transactionTemplate.executeWithoutResult(status -> fileDeletionService.enqueue(List.of(fileKey)));
+            throw new ResumableUploadNotFoundException();
+        }
+        deleteStagingFileQuietly(stagingFile);
+    }
+
+    // 요청 본문을 임시 파일의 offset 위치로 바로 옮기므로 조각 전체를 힙에 올리지 않는다.
+    private void writeChunk(Path stagingFile, long offset, InputStream inputStream, long chunkLength) {
+        try {
+            // 다른 서버에서 받았거나 지워진 임시 파일이면 이어 쓸 수 없다.
+            if (offset > 0 && (!Files.exists(stagingFile) || Files.size(stagingFile) < offset)) {
+                throw new ResumableUploadNotFoundException();
+            }
+            try (ReadableByteChannel source = Channels.newChannel(inputStream);
+                 FileChannel target = FileChannel.open(stagingFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                long written = 0;
+                while (written < chunkLength) {
+                    long transferred = target.transferFrom(source, offset + written, chunkLength - written);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    written += transferred;
+                }
+                if (written != chunkLength) {
+                    throw new FileUploadFailureException("Chunk of upload was cut off at " + written + " bytes");
+                }
+                // 위치를 기록하기 전에 받은 조각이 디스크에 남도록 한다.
+                target.force(false);
+            }
+        } catch (IOException e) {
+            throw new FileUploadFailureException(e.getMessage());
+        }
+    }
+
+    private ResumableUpload getResumableUpload(Long uploadId, Long uploaderId) {
+        return resumableUploadRepository.findByIdAndUploaderId(uploadId, uploaderId)
+                .orElseThrow(ResumableUploadNotFoundException::new);
+    }
+
+    private ResumableUploadResponseDto toResponseDto(ResumableUpload resumableUpload) {
+        return ResumableUploadResponseDto.of(resumableUpload, resumableUpload.getUploadedLength(), resumableUpload.isCompleted(), chunkSize);
+    }
+
+    private Path resolveStagingFile(Long uploadId) {
+        return stagingDirectory.resolve(uploadId + STAGING_FILE_SUFFIX);
+    }
+
+    private void deleteStagingFileQuietly(Path stagingFile) {
+        try {
+            Files.deleteIfExists(stagingFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete staging file {}", stagingFile, e);
+        }
+    }
+}
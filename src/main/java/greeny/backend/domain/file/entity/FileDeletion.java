@@ -0,0 +1,46 @@
+package greeny.backend.domain.file.entity;
+
+import greeny.backend.domain.AuditEntity;
+import lombok.*;
+import javax.persistence.*;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+@Table(indexes = @Index(name = "idx_file_deletion_retry_count", columnList = "retryCount, file_deletion_id"))
+public class FileDeletion extends AuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "file_deletion_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String fileKey;
+
+    // 이미지 축소본이면 원본 파일 키이며, 원본이 다시 참조되고 있으면 축소본도 삭제하지 않는다.
+    private String originalKey;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer retryCount = 0;
+
+    public static FileDeletion of(String fileKey) {
+        return FileDeletion.builder()
+                .fileKey(fileKey)
+                .build();
+    }
+
+    public static FileDeletion ofVariant(String fileKey, String originalKey) {
+        return FileDeletion.builder()
+                .fileKey(fileKey)
+                .originalKey(originalKey)
+                .build();
+    }
+
+    public String getReferenceKey() {
+        return originalKey != null ? originalKey : fileKey;
+    }
+}
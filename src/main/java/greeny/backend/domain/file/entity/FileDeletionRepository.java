@@ -0,0 +1,19 @@
+package greeny.backend.domain.file.entity;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+    List<FileDeletion> findByRetryCountLessThanOrderByIdAsc(Integer retryCount, Pageable pageable);
+
+    List<FileDeletion> findByRetryCountGreaterThanEqualOrderByIdAsc(Integer retryCount, Pageable pageable);
+
+    @Modifying
+    @Query("update FileDeletion fd set fd.retryCount = fd.retryCount + 1 where fd.id in :ids")
+    int increaseRetryCount(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,88 @@
+package greeny.backend.domain.file.entity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import javax.persistence.EntityManager;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 저장소 파일을 참조하는 모든 테이블의 파일 이름을 읽는 native 쿼리 모음.
+ * 참조 수가 없던 때의 게시글/리뷰 파일도 있으므로 StoredFile 과 파일 테이블을 함께 본다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FileReferenceRepository {
+
+    private static final List<Source> SOURCES = List.of(
+            new Source("StoredFile", "stored_file_id", "fileKey"),
+            new Source("PostFile", "post_file_id", "fileUrl", "thumbnailUrl", "mediumUrl"),
+            new Source("StoreReviewFile", "store_review_file_id", "fileUrl", "thumbnailUrl", "mediumUrl"),
+            new Source("ProductReviewFile", "product_review_file_id", "fileUrl", "thumbnailUrl", "mediumUrl")
+    );
+
+    private final EntityManager em;
+
+    public long countReferences() {
+        long count = 0;
+        for (Source source : SOURCES) {
+            count += ((Number) em.createNativeQuery("select count(*) from " + source.table).getSingleResult()).longValue()
+                    * source.keyColumns.length;
+        }
+        return count;
+    }
+
+    // 테이블마다 id 순으로 batchSize 행씩 끊어 읽으므로 전체 목록을 메모리에 올리지 않는다.
+    public void forEachReference(int batchSize, Consumer<String> action) {
+        for (Source source : SOURCES) {
+            String sql = "select " + source.idColumn + ", " + String.join(", ", source.keyColumns) + " from " + source.table +
+                    " where " + source.idColumn + " > :lastId order by " + source.idColumn + " limit :limit";
+            long lastId = 0;
+            List<?> rows;
+            do {
+                rows = em.createNativeQuery(sql)
+                        .setParameter("lastId", lastId)
+                        .setParameter("limit", batchSize)
+                        .getResultList();
+                for (Object row : rows) {
+                    Object[] columns = (Object[]) row;
+                    lastId = ((Number) columns[0]).longValue();
+                    for (int i = 1; i < columns.length; i++) {
+                        if (columns[i] != null) {
+                            action.accept((String) columns[i]);
+                        }
+                    }
+                }
+            } while (rows.size() == batchSize);
+        }
+    }
+
+    public Set<String> findReferencedKeys(Collection<String> fileKeys) {
+        Set<String> referencedKeys = new HashSet<>();
+        for (Source source : SOURCES) {
+            for (String keyColumn : source.keyColumns) {
+                List<?> rows = em.createNativeQuery("select " + keyColumn + " from " + source.table + " where " + keyColumn + " in (:fileKeys)")
+                        .setParameter("fileKeys", fileKeys)
+                        .getResultList();
+                rows.stream().map(Objects::toString).forEach(referencedKeys::add);
+            }
+        }
+        return referencedKeys;
+    }
+
+    private static class Source {
+        private final String table;
+        private final String idColumn;
+        private final String[] keyColumns;
+
+        private Source(String table, String idColumn, String... keyColumns) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.keyColumns = keyColumns;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package greeny.backend.domain.file.entity;
+
+import greeny.backend.domain.AuditEntity;
+import lombok.*;
+import javax.persistence.*;
+
+/**
+ * 여러 요청에 나누어 올리는 파일의 진행 상태.
+ * 받은 조각은 서버의 임시 파일에 이어 쓰고, 모두 받으면 저장소에 올린 뒤 fileKey 를 기록한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+@Table(indexes = @Index(name = "idx_resumable_upload_updated_at", columnList = "updatedAt"))
+public class ResumableUpload extends AuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "resumable_upload_id")
+    private Long id;
+
+    // 탈퇴한 회원의 업로드도 만료되면 정리되므로 외래 키를 두지 않는다.
+    @Column(name = "uploader_id", nullable = false)
+    private Long uploaderId;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long length;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long uploadedLength = 0L;
+
+    @Column(length = 100)
+    private String fileKey;
+
+    public boolean isCompleted() {
+        return fileKey != null;
+    }
+}
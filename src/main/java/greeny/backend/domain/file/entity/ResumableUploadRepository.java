@@ -0,0 +1,41 @@
+package greeny.backend.domain.file.entity;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ResumableUploadRepository extends JpaRepository<ResumableUpload, Long> {
+
+    Optional<ResumableUpload> findByIdAndUploaderId(Long id, Long uploaderId);
+
+    List<ResumableUpload> findByUpdatedAtLessThanOrderByIdAsc(String updatedAt, Pageable pageable);
+
+    // 요청한 위치가 지금까지 받은 길이와 같을 때만 진행 상태를 옮긴다.
+    @Transactional
+    @Modifying
+    @Query("update ResumableUpload u set u.uploadedLength = :uploadedLength, u.updatedAt = :now " +
+            "where u.id = :id and u.uploadedLength = :offset and u.fileKey is null")
+    int advance(@Param("id") Long id, @Param("offset") long offset, @Param("uploadedLength") long uploadedLength, @Param("now") String now);
+
+    @Transactional
+    @Modifying
+    @Query("update ResumableUpload u set u.fileKey = :fileKey, u.updatedAt = :now where u.id = :id and u.fileKey is null")
+    int complete(@Param("id") Long id, @Param("fileKey") String fileKey, @Param("now") String now);
+
+    @Query("select u.fileKey from ResumableUpload u where u.id in :ids and u.uploaderId = :uploaderId and u.fileKey is not null")
+    List<String> findCompletedFileKeys(@Param("ids") Collection<Long> ids, @Param("uploaderId") Long uploaderId);
+
+    @Modifying
+    @Query("delete from ResumableUpload u where u.id in :ids and u.uploaderId = :uploaderId and u.fileKey is not null")
+    int deleteCompleted(@Param("ids") Collection<Long> ids, @Param("uploaderId") Long uploaderId);
+
+    @Modifying
+    @Query("delete from ResumableUpload u where u.id = :id and u.updatedAt < :expiredBefore")
+    int deleteExpired(@Param("id") Long id, @Param("expiredBefore") String expiredBefore);
+}
@@ -0,0 +1,37 @@
+package greeny.backend.domain.file.entity;
+
+import greeny.backend.domain.AuditEntity;
+import lombok.*;
+import javax.persistence.*;
+
+/**
+ * 내용의 SHA-256 으로 이름 붙인 저장소 파일과 이를 참조하는 게시글/리뷰 파일 수.
+ * 참조 수가 0 이 되어 행이 삭제될 때만 실제 파일을 삭제한다.
+ * 참조를 먼저 가져온 뒤 전송하므로, 전송이 끝난 파일만 STORED 상태가 된다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "unique_stored_file_key", columnNames = "fileKey"))
+public class StoredFile extends AuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stored_file_id")
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String fileKey;
+
+    @Column(nullable = false)
+    private Long size;
+
+    @Column(nullable = false)
+    private Integer refCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StoredFileStatus status;
+}
@@ -0,0 +1,43 @@
+package greeny.backend.domain.file.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    // 처음 저장되는 파일이면 1, 이미 있는 파일의 참조 수를 늘렸으면 2 를 반환한다. 이미 있는 파일의 상태는 바꾸지 않는다.
+    @Transactional
+    @Modifying
+    @Query(value = "insert into StoredFile (fileKey, size, refCount, status, createdAt, updatedAt) " +
+            "values (:fileKey, :size, 1, :status, :now, :now) " +
+            "on duplicate key update refCount = refCount + 1, updatedAt = :now",
+            nativeQuery = true)
+    int acquire(@Param("fileKey") String fileKey, @Param("size") long size, @Param("status") String status, @Param("now") String now);
+
+    boolean existsByFileKeyAndStatus(String fileKey, StoredFileStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("update StoredFile f set f.status = greeny.backend.domain.file.entity.StoredFileStatus.STORED, f.updatedAt = :now where f.fileKey = :fileKey")
+    int markStored(@Param("fileKey") String fileKey, @Param("now") String now);
+
+    @Modifying
+    @Query("update StoredFile f set f.refCount = f.refCount - 1 where f.fileKey = :fileKey")
+    int decreaseRefCount(@Param("fileKey") String fileKey);
+
+    @Modifying
+    @Query("delete from StoredFile f where f.fileKey = :fileKey and f.refCount <= 0")
+    int deleteUnreferenced(@Param("fileKey") String fileKey);
+
+    @Query("select f.fileKey from StoredFile f where f.fileKey in :fileKeys")
+    List<String> findFileKeysByFileKeyIn(@Param("fileKeys") Collection<String> fileKeys);
+
+    // 없는 키도 잠그므로, 잠근 트랜잭션이 끝날 때까지 같은 키로 acquire 하는 요청은 기다린다.
+    @Query(value = "select fileKey from StoredFile where fileKey in (:fileKeys) for update", nativeQuery = true)
+    List<String> findFileKeysByFileKeyInForUpdate(@Param("fileKeys") Collection<String> fileKeys);
+}
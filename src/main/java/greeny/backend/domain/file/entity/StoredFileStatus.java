@@ -0,0 +1,7 @@
+package greeny.backend.domain.file.entity;
+
+// PENDING 이면 저장소로 전송 중이거나 전송에 실패한 파일이다.
+public enum StoredFileStatus {
+    PENDING,
+    STORED
+}
@@ -0,0 +1,33 @@
+package greeny.backend.domain.file.entity;
+
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.infrastructure.image.ImageVariant;
+import lombok.Getter;
+import javax.persistence.MappedSuperclass;
+
+/**
+ * 축소본을 가질 수 있는 게시글/리뷰 첨부 파일. 축소본 이름은 백그라운드에서 생성이 끝난 뒤에 기록된다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class VariantFile extends AuditEntity {
+
+    private String thumbnailUrl;
+
+    private String mediumUrl;
+
+    public abstract Long getId();
+
+    public abstract String getFileUrl();
+
+    // 요청한 축소본이 아직 만들어지지 않았거나 이미지가 아니면 원본을 반환한다.
+    public String getFileUrl(ImageVariant variant) {
+        if (variant == ImageVariant.THUMBNAIL && thumbnailUrl != null) {
+            return thumbnailUrl;
+        }
+        if (variant == ImageVariant.MEDIUM && mediumUrl != null) {
+            return mediumUrl;
+        }
+        return getFileUrl();
+    }
+}
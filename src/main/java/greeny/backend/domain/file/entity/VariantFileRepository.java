@@ -0,0 +1,17 @@
+package greeny.backend.domain.file.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+@NoRepositoryBean
+public interface VariantFileRepository<T extends VariantFile> extends JpaRepository<T, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("update #{#entityName} f set f.thumbnailUrl = :thumbnailUrl, f.mediumUrl = :mediumUrl where f.id = :id")
+    int updateVariantUrls(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl, @Param("mediumUrl") String mediumUrl);
+}
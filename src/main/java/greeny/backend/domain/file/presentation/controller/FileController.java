@@ -0,0 +1,38 @@
+package greeny.backend.domain.file.presentation.controller;
+
+import greeny.backend.domain.file.presentation.dto.CreateUploadUrlsRequestDto;
+import greeny.backend.domain.member.application.MemberService;
+import greeny.backend.infrastructure.storage.FileService;
+import greeny.backend.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import javax.validation.Valid;
+import static greeny.backend.response.Response.success;
+import static greeny.backend.response.SuccessMessage.SUCCESS_TO_CREATE_UPLOAD_URLS;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/api/files")
+@Tag(name = "File", description = "File API Document")
+public class FileController {
+
+    private final FileService fileService;
+    private final MemberService memberService;
+
+    @PostMapping("/upload-urls")
+    @ResponseStatus(OK)
+    @Operation(summary = "Create upload urls API", description = "저장소에 직접 파일을 올릴 수 있는 업로드 요청 정보를 발급합니다. " +
+            "uploadMethod 가 PUT 이면 uploadUrl 로 요청한 Content-Type 과 함께 파일 내용을 보내고, " +
+            "POST 이면 uploadFields 를 모두 담은 multipart/form-data 의 마지막 file 필드로 파일을 보내주세요. " +
+            "허용된 크기를 넘는 파일은 저장소가 거절합니다. 업로드한 뒤 발급받은 fileKey 를 글이나 리뷰 작성 시 보내주세요.")
+    public Response createUploadUrls(@Valid @RequestBody CreateUploadUrlsRequestDto createUploadUrlsRequestDto) {
+        return success(SUCCESS_TO_CREATE_UPLOAD_URLS, fileService.createUploadUrls(
+                createUploadUrlsRequestDto.getFileNames(),
+                createUploadUrlsRequestDto.getContentType(),
+                memberService.getCurrentMember().getId()
+        ));
+    }
+}
@@ -0,0 +1,78 @@
+package greeny.backend.domain.file.presentation.controller;
+
+import greeny.backend.domain.file.application.ResumableUploadService;
+import greeny.backend.domain.file.presentation.dto.CreateResumableUploadRequestDto;
+import greeny.backend.domain.file.presentation.dto.ResumableUploadResponseDto;
+import greeny.backend.domain.member.application.MemberService;
+import greeny.backend.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+import java.io.IOException;
+import static greeny.backend.response.Response.success;
+import static greeny.backend.response.SuccessMessage.*;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/api/uploads")
+@Tag(name = "Resumable Upload", description = "Resumable Upload API Document")
+public class ResumableUploadController {
+
+    private static final String UPLOAD_OFFSET = "Upload-Offset";
+    private static final String UPLOAD_LENGTH = "Upload-Length";
+    private static final String OFFSET_OCTET_STREAM_VALUE = "application/offset+octet-stream";
+
+    private final ResumableUploadService resumableUploadService;
+    private final MemberService memberService;
+
+    @PostMapping
+    @ResponseStatus(OK)
+    @Operation(summary = "Create resumable upload API", description = "이어 올리기 업로드를 시작합니다. 응답의 chunkSize 크기로 파일을 나누어 보내주세요.")
+    public Response createResumableUpload(@Valid @RequestBody CreateResumableUploadRequestDto createResumableUploadRequestDto) {
+        return success(SUCCESS_TO_CREATE_RESUMABLE_UPLOAD, resumableUploadService.create(
+                createResumableUploadRequestDto.getFileName(),
+                createResumableUploadRequestDto.getContentType(),
+                createResumableUploadRequestDto.getLength(),
+                memberService.getCurrentMember().getId()
+        ));
+    }
+
+    @GetMapping("/{uploadId}")
+    @Operation(summary = "Get resumable upload status API", description = "연결이 끊긴 뒤 이어서 보낼 위치를 확인합니다. HEAD 요청이면 Upload-Offset 헤더만 내려줍니다.")
+    public ResponseEntity<Response> getResumableUpload(@PathVariable Long uploadId) {
+        ResumableUploadResponseDto resumableUploadResponseDto = resumableUploadService.getStatus(uploadId, memberService.getCurrentMember().getId());
+        return withUploadHeaders(resumableUploadResponseDto, success(SUCCESS_TO_GET_RESUMABLE_UPLOAD, resumableUploadResponseDto));
+    }
+
+    @PatchMapping(value = "/{uploadId}", consumes = OFFSET_OCTET_STREAM_VALUE)
+    @Operation(summary = "Append upload chunk API", description = "Upload-Offset 헤더의 위치부터 요청 본문의 조각을 이어 씁니다. 마지막 조각을 받으면 업로드가 끝나고, " +
+            "uploadId 를 글이나 리뷰 작성 시 보내면 파일이 첨부됩니다.")
+    public ResponseEntity<Response> appendChunk(
+            @PathVariable Long uploadId,
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            HttpServletRequest request
+    ) throws IOException {
+        ResumableUploadResponseDto resumableUploadResponseDto = resumableUploadService.appendChunk(
+                uploadId,
+                offset,
+                request.getInputStream(),
+                Math.max(request.getContentLengthLong(), 0),
+                memberService.getCurrentMember().getId()
+        );
+        return withUploadHeaders(resumableUploadResponseDto, success(SUCCESS_TO_APPEND_UPLOAD_CHUNK, resumableUploadResponseDto));
+    }
+
+    private ResponseEntity<Response> withUploadHeaders(ResumableUploadResponseDto resumableUploadResponseDto, Response response) {
+        return ResponseEntity.ok()
+                .header(UPLOAD_OFFSET, String.valueOf(resumableUploadResponseDto.getOffset()))
+                .header(UPLOAD_LENGTH, String.valueOf(resumableUploadResponseDto.getLength()))
+                .cacheControl(CacheControl.noStore())
+                .body(response);
+    }
+}
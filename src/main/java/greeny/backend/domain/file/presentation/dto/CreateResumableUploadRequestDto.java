@@ -0,0 +1,27 @@
+package greeny.backend.domain.file.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class CreateResumableUploadRequestDto {
+
+    @NotBlank(message = "파일 이름을 입력해주세요.")
+    @Schema(description = "업로드할 파일 이름. 확장자만 사용합니다.", defaultValue = "tumbler.png")
+    private String fileName;
+
+    @NotBlank(message = "Content-Type 을 입력해주세요.")
+    @Schema(description = "업로드할 파일의 Content-Type", defaultValue = "image/png")
+    private String contentType;
+
+    @NotNull(message = "파일 크기를 입력해주세요.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    @Schema(description = "전체 파일 크기(byte)", defaultValue = "20971520")
+    private Long length;
+}
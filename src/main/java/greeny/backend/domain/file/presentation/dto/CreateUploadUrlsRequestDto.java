@@ -0,0 +1,24 @@
+package greeny.backend.domain.file.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class CreateUploadUrlsRequestDto {
+
+    @NotEmpty(message = "업로드할 파일 이름을 입력해주세요.")
+    @Size(max = 10, message = "한 번에 10개 이하의 파일만 올릴 수 있습니다.")
+    @Schema(description = "업로드할 파일 이름 목록. 확장자만 사용합니다.", defaultValue = "[\"tumbler.png\"]")
+    private List<@NotBlank String> fileNames;
+
+    @NotBlank(message = "Content-Type 을 입력해주세요.")
+    @Schema(description = "업로드할 파일의 Content-Type. 업로드 요청에도 같은 값을 보내야 합니다.", defaultValue = "image/png")
+    private String contentType;
+}
@@ -0,0 +1,26 @@
+package greeny.backend.domain.file.presentation.dto;
+
+import greeny.backend.domain.file.entity.ResumableUpload;
+import lombok.*;
+
+@Data
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ResumableUploadResponseDto {
+
+    private Long uploadId;
+    private Long offset;
+    private Long length;
+    private Integer chunkSize;
+    private Boolean completed;
+
+    public static ResumableUploadResponseDto of(ResumableUpload resumableUpload, long offset, boolean completed, int chunkSize) {
+        return ResumableUploadResponseDto.builder()
+                .uploadId(resumableUpload.getId())
+                .offset(offset)
+                .length(resumableUpload.getLength())
+                .chunkSize(chunkSize)
+                .completed(completed)
+                .build();
+    }
+}
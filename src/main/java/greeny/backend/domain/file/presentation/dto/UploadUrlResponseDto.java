@@ -0,0 +1,27 @@
+package greeny.backend.domain.file.presentation.dto;
+
+import greeny.backend.infrastructure.storage.UploadForm;
+import lombok.*;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class UploadUrlResponseDto {
+
+    private String fileKey;
+    private String uploadMethod;
+    private String uploadUrl;
+    private Map<String, String> uploadFields;
+    private Long expiresAt;
+
+    public static UploadUrlResponseDto of(String fileKey, UploadForm uploadForm, long expiresAt) {
+        return UploadUrlResponseDto.builder()
+                .fileKey(fileKey)
+                .uploadMethod(uploadForm.getMethod())
+                .uploadUrl(uploadForm.getUrl().toString())
+                .uploadFields(uploadForm.getFields())
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -34,7 +34,7 @@ public class AuthService {
     private final JwtProvider jwtProvider;
 
     public void validateSignUpInfoWithGeneral(String email) {
-        if (memberRepository.existsByEmail(email)) {
+        if (memberRepository.existsByEmailAndDeletedFalse(email)) {
             throw new EmailAlreadyExistsException(email);
         }
     }
@@ -73,7 +73,7 @@ public class AuthService {
     }
 
     public TokenResponseDto signInWithSocial(String email, Provider provider) {
-        if(memberRepository.existsByEmail(email)) {
+        if(memberRepository.existsByEmailAndDeletedFalse(email)) {
             validateSignUpInfoWithSocial(email);
 
             Member foundMember = getMember(email);
@@ -105,7 +105,7 @@ public class AuthService {
         String email = agreementRequestDto.getEmail();
         Long foundMemberId = getMember(email).getId();
 
-        if (!memberRepository.existsByEmail(email)) {
+        if (!memberRepository.existsByEmailAndDeletedFalse(email)) {
             throw new MemberNotFoundException();
         }
         else {
@@ -217,7 +217,7 @@ public class AuthService {
     }
 
     private Member getMember(String email) {
-        return memberRepository.findByEmail(email).orElseThrow(MemberNotFoundException::new);
+        return memberRepository.findByEmailAndDeletedFalse(email).orElseThrow(MemberNotFoundException::new);
     }
 
     public GeneralMember getGeneralMember(Long memberId) {
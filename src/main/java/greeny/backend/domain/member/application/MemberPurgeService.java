@@ -0,0 +1,209 @@
+package greeny.backend.domain.member.application;
+
+import greeny.backend.domain.file.application.FileDeletionService;
+import greeny.backend.domain.member.entity.MemberPurgeRepository;
+import greeny.backend.domain.member.entity.MemberRepository;
+import greeny.backend.domain.post.application.HotPostRanking;
+import greeny.backend.infrastructure.cache.CountCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 탈퇴 처리된 회원의 연관 데이터를 배치 단위 트랜잭션으로 나누어 삭제한다.
+ * 진행 상태는 남아있는 행 자체이므로 서버가 재시작되어도 다음 실행에서 이어서 삭제한다.
+ */
+@Service
+@Slf4j
+public class MemberPurgeService {
+
+    private final MemberRepository memberRepository;
+    private final MemberPurgeRepository memberPurgeRepository;
+    private final FileDeletionService fileDeletionService;
+    private final HotPostRanking hotPostRanking;
+    private final CountCache countCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong purgedMembers = new AtomicLong();
+    private final AtomicLong purgedRows = new AtomicLong();
+    private final AtomicLong queuedFiles = new AtomicLong();
+
+    @Value("${member-purge.batch-size:500}")
+    private int batchSize;
+
+    public MemberPurgeService(
+            MemberRepository memberRepository,
+            MemberPurgeRepository memberPurgeRepository,
+            FileDeletionService fileDeletionService,
+            HotPostRanking hotPostRanking,
+            CountCache countCache,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.memberRepository = memberRepository;
+        this.memberPurgeRepository = memberPurgeRepository;
+        this.fileDeletionService = fileDeletionService;
+        this.hotPostRanking = hotPostRanking;
+        this.countCache = countCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${member-purge.fixed-delay-ms:60000}")
+    public void purgeDeletedMembers() {
+        List<Long> memberIds = memberRepository.findDeletedMemberIds();
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        log.info("Purging {} deleted members", memberIds.size());
+        for (Long memberId : memberIds) {
+            try {
+                purge(memberId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to purge member {}, will retry on next run", memberId, e);
+            }
+        }
+        log.info("Member purge progress: members={}, rows={}, queuedFiles={}, pending={}",
+                purgedMembers.get(), purgedRows.get(), queuedFiles.get(), memberRepository.countByDeletedTrue());
+    }
+
+    public void purge(Long memberId) {
+        repeat(() -> purgePostLikes(memberId));
+        repeat(() -> purgeComments(memberId));
+        repeat(() -> purgeStoreReviewHelpfuls(memberId));
+        repeat(() -> purgeProductReviewHelpfuls(memberId));
+        repeat(() -> inTransaction(() -> memberPurgeRepository.deleteStoreWishlists(memberId, batchSize)));
+        repeat(() -> inTransaction(() -> memberPurgeRepository.deleteProductWishlists(memberId, batchSize)));
+        repeat(() -> purgeStoreReviews(memberId));
+        repeat(() -> purgeProductReviews(memberId));
+        repeat(() -> purgePosts(memberId));
+        inTransaction(() -> memberPurgeRepository.deleteMember(memberId));
+
+        countCache.invalidate("post");
+        countCache.invalidate("review");
+        purgedMembers.incrementAndGet();
+        log.info("Purged member {}", memberId);
+    }
+
+    private int purgePostLikes(Long memberId) {
+        return inTransaction(() -> {
+            List<Long[]> postLikes = memberPurgeRepository.findPostLikes(memberId, batchSize);
+            if (postLikes.isEmpty()) {
+                return 0;
+            }
+            List<Long> postIds = postLikes.stream().map(postLike -> postLike[1]).collect(Collectors.toList());
+            memberPurgeRepository.decreaseLikeCounts(postIds);
+            postIds.forEach(postId -> hotPostRanking.onLike(postId, -1));
+            return memberPurgeRepository.deletePostLikes(postLikes.stream().map(postLike -> postLike[0]).collect(Collectors.toList()));
+        });
+    }
+
+    private int purgeStoreReviewHelpfuls(Long memberId) {
+        return inTransaction(() -> {
+            List<Long[]> helpfuls = memberPurgeRepository.findStoreReviewHelpfuls(memberId, batchSize);
+            if (helpfuls.isEmpty()) {
+                return 0;
+            }
+            memberPurgeRepository.decreaseStoreReviewHelpfulCounts(helpfuls.stream().map(helpful -> helpful[1]).collect(Collectors.toList()));
+            return memberPurgeRepository.deleteStoreReviewHelpfuls(helpfuls.stream().map(helpful -> helpful[0]).collect(Collectors.toList()));
+        });
+    }
+
+    private int purgeProductReviewHelpfuls(Long memberId) {
+        return inTransaction(() -> {
+            List<Long[]> helpfuls = memberPurgeRepository.findProductReviewHelpfuls(memberId, batchSize);
+            if (helpfuls.isEmpty()) {
+                return 0;
+            }
+            memberPurgeRepository.decreaseProductReviewHelpfulCounts(helpfuls.stream().map(helpful -> helpful[1]).collect(Collectors.toList()));
+            return memberPurgeRepository.deleteProductReviewHelpfuls(helpfuls.stream().map(helpful -> helpful[0]).collect(Collectors.toList()));
+        });
+    }
+
+    private int purgeComments(Long memberId) {
+        return inTransaction(() -> {
+            List<Long> commentIds = memberPurgeRepository.findCommentIds(memberId, batchSize);
+            if (commentIds.isEmpty()) {
+                return 0;
+            }
+            memberPurgeRepository.decreaseCommentCounts(commentIds);
+            return memberPurgeRepository.deleteComments(commentIds);
+        });
+    }
+
+    private int purgeStoreReviews(Long memberId) {
+        return inTransaction(() -> {
+            List<Long> storeReviewIds = memberPurgeRepository.findStoreReviewIds(memberId, batchSize);
+            if (storeReviewIds.isEmpty()) {
+                return 0;
+            }
+            // 리뷰에 남은 추천을 모두 지운 뒤에 리뷰를 삭제한다.
+            int helpfuls = memberPurgeRepository.deleteStoreReviewHelpfulsOfReviews(storeReviewIds, batchSize);
+            if (helpfuls > 0) {
+                return helpfuls;
+            }
+            enqueueFiles(memberPurgeRepository.findStoreReviewFileUrls(storeReviewIds));
+            return memberPurgeRepository.deleteStoreReviews(storeReviewIds);
+        });
+    }
+
+    private int purgeProductReviews(Long memberId) {
+        return inTransaction(() -> {
+            List<Long> productReviewIds = memberPurgeRepository.findProductReviewIds(memberId, batchSize);
+            if (productReviewIds.isEmpty()) {
+                return 0;
+            }
+            int helpfuls = memberPurgeRepository.deleteProductReviewHelpfulsOfReviews(productReviewIds, batchSize);
+            if (helpfuls > 0) {
+                return helpfuls;
+            }
+            enqueueFiles(memberPurgeRepository.findProductReviewFileUrls(productReviewIds));
+            return memberPurgeRepository.deleteProductReviews(productReviewIds);
+        });
+    }
+
+    // 게시글의 좋아요와 댓글을 모두 지운 뒤에 게시글을 삭제한다.
+    private int purgePosts(Long memberId) {
+        List<Long> deletedPostIds = new ArrayList<>();
+        int deleted = inTransaction(() -> {
+            List<Long> postIds = memberPurgeRepository.findPostIds(memberId, batchSize);
+            if (postIds.isEmpty()) {
+                return 0;
+            }
+            int children = memberPurgeRepository.deletePostChildren(postIds, batchSize);
+            if (children > 0) {
+                return children;
+            }
+            enqueueFiles(memberPurgeRepository.findPostFileUrls(postIds));
+            deletedPostIds.addAll(postIds);
+            return memberPurgeRepository.deletePosts(postIds);
+        });
+        deletedPostIds.forEach(hotPostRanking::onDelete);
+        return deleted;
+    }
+
+    // 파일은 행 삭제와 같은 트랜잭션에서 아웃박스에 기록되고, 커밋된 후에 삭제된다.
+    private void enqueueFiles(List<String> fileUrls) {
+        fileDeletionService.enqueue(fileUrls);
+        queuedFiles.addAndGet(fileUrls.size());
+    }
+
+    private void repeat(Supplier<Integer> batch) {
+        int deleted;
+        do {
+            deleted = batch.get();
+            purgedRows.addAndGet(deleted);
+        } while (deleted > 0);
+    }
+
+    private int inTransaction(Supplier<Integer> batch) {
+        Integer deleted = transactionTemplate.execute(status -> batch.get());
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -34,7 +34,7 @@ public class MemberService {
     private final AuthService authService;
 
     public Member getCurrentMember() {
-        return memberRepository.findByEmail(SecurityContextHolder.getContext().getAuthentication().getName())
+        return memberRepository.findByEmailAndDeletedFalse(SecurityContextHolder.getContext().getAuthentication().getName())
                 .orElseThrow(MemberNotFoundException::new);
     }
 
@@ -55,6 +55,8 @@ public class MemberService {
         return GetMemberInfoResponseDto.toSocialMemberDto(currentMember.getEmail(), getMemberSocial(currentMemberId).getProvider().getName());
     }
 
+    // 로그인 정보만 즉시 삭제하고, 작성한 글과 좋아요 등은 MemberPurgeService 가 나누어 삭제한다.
+    @Transactional
     public void deleteMember() {
         Member currentMember = getCurrentMember();
         String key = currentMember.getEmail();
@@ -100,7 +102,7 @@ public class MemberService {
         }
 
         agreementRepository.delete(getMemberAgreement(currentMemberId));
-        memberRepository.delete(currentMember);
+        memberRepository.markDeletedById(currentMember.getId());
     }
 
     private void checkAndCancelWishlist(String type, List<Long> idsToDelete) {
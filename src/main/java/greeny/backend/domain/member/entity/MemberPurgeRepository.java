@@ -0,0 +1,232 @@
+package greeny.backend.domain.member.entity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 탈퇴한 회원의 연관 데이터를 엔티티를 거치지 않고 limit 단위로 나누어 삭제하는 native 쿼리 모음.
+ * 호출하는 쪽에서 배치마다 트랜잭션을 연다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberPurgeRepository {
+
+    private final EntityManager em;
+
+    // [post_like_id, post_id]
+    public List<Long[]> findPostLikes(Long likerId, int limit) {
+        return toIdPairs(em.createNativeQuery(
+                        "select post_like_id, post_id from PostLike where liker_id = :likerId limit :limit")
+                .setParameter("likerId", likerId)
+                .setParameter("limit", limit)
+                .getResultList());
+    }
+
+    // 회원당 게시글 좋아요는 하나이므로 게시글마다 1 씩 줄인다.
+    public void decreaseLikeCounts(List<Long> postIds) {
+        em.createNativeQuery("update Post set like_count = like_count - 1 where post_id in (:postIds)")
+                .setParameter("postIds", postIds)
+                .executeUpdate();
+    }
+
+    public int deletePostLikes(List<Long> postLikeIds) {
+        return deleteByIds("PostLike", "post_like_id", postLikeIds);
+    }
+
+    // [store_review_helpful_id, store_review_id]
+    public List<Long[]> findStoreReviewHelpfuls(Long voterId, int limit) {
+        return findReviewHelpfuls("StoreReviewHelpful", "store_review_helpful_id", "store_review_id", voterId, limit);
+    }
+
+    // 회원당 리뷰 추천은 하나이므로 리뷰마다 1 씩 줄인다.
+    public void decreaseStoreReviewHelpfulCounts(List<Long> storeReviewIds) {
+        decreaseHelpfulCounts("StoreReview", "store_review_id", storeReviewIds);
+    }
+
+    public int deleteStoreReviewHelpfuls(List<Long> storeReviewHelpfulIds) {
+        return deleteByIds("StoreReviewHelpful", "store_review_helpful_id", storeReviewHelpfulIds);
+    }
+
+    // [product_review_helpful_id, product_review_id]
+    public List<Long[]> findProductReviewHelpfuls(Long voterId, int limit) {
+        return findReviewHelpfuls("ProductReviewHelpful", "product_review_helpful_id", "product_review_id", voterId, limit);
+    }
+
+    public void decreaseProductReviewHelpfulCounts(List<Long> productReviewIds) {
+        decreaseHelpfulCounts("ProductReview", "product_review_id", productReviewIds);
+    }
+
+    public int deleteProductReviewHelpfuls(List<Long> productReviewHelpfulIds) {
+        return deleteByIds("ProductReviewHelpful", "product_review_helpful_id", productReviewHelpfulIds);
+    }
+
+    public List<Long> findCommentIds(Long writerId, int limit) {
+        return findIds("select comment_id from Comment where writer_id = :memberId limit :limit", writerId, limit);
+    }
+
+    public void decreaseCommentCounts(List<Long> commentIds) {
+        em.createNativeQuery("update Post p join " +
+                        "(select post_id, count(*) as removed from Comment where comment_id in (:commentIds) group by post_id) c " +
+                        "on c.post_id = p.post_id set p.comment_count = p.comment_count - c.removed")
+                .setParameter("commentIds", commentIds)
+                .executeUpdate();
+    }
+
+    public int deleteComments(List<Long> commentIds) {
+        return deleteByIds("Comment", "comment_id", commentIds);
+    }
+
+    public int deleteStoreWishlists(Long memberId, int limit) {
+        return deleteByMember("StoreWishlist", "member_id", memberId, limit);
+    }
+
+    public int deleteProductWishlists(Long memberId, int limit) {
+        return deleteByMember("ProductWishlist", "member_id", memberId, limit);
+    }
+
+    public List<Long> findStoreReviewIds(Long reviewerId, int limit) {
+        return findIds("select store_review_id from StoreReview where reviewer_id = :memberId limit :limit", reviewerId, limit);
+    }
+
+    public List<String> findStoreReviewFileUrls(List<Long> storeReviewIds) {
+        return findFileUrls("StoreReviewFile", "store_review_id", storeReviewIds);
+    }
+
+    // 다른 회원이 남긴 추천은 많을 수 있으므로 limit 단위로 삭제한다.
+    public int deleteStoreReviewHelpfulsOfReviews(List<Long> storeReviewIds, int limit) {
+        return deleteByIds("StoreReviewHelpful", "store_review_id", storeReviewIds, limit);
+    }
+
+    public int deleteStoreReviews(List<Long> storeReviewIds) {
+        subtractRatings("Store", "store_id", "StoreReview", "store_review_id", storeReviewIds);
+        deleteByIds("StoreReviewFile", "store_review_id", storeReviewIds);
+        return deleteByIds("StoreReview", "store_review_id", storeReviewIds);
+    }
+
+    public List<Long> findProductReviewIds(Long reviewerId, int limit) {
+        return findIds("select product_review_id from ProductReview where reviewer_id = :memberId limit :limit", reviewerId, limit);
+    }
+
+    public List<String> findProductReviewFileUrls(List<Long> productReviewIds) {
+        return findFileUrls("ProductReviewFile", "product_review_id", productReviewIds);
+    }
+
+    public int deleteProductReviewHelpfulsOfReviews(List<Long> productReviewIds, int limit) {
+        return deleteByIds("ProductReviewHelpful", "product_review_id", productReviewIds, limit);
+    }
+
+    public int deleteProductReviews(List<Long> productReviewIds) {
+        subtractRatings("Product", "product_id", "ProductReview", "product_review_id", productReviewIds);
+        deleteByIds("ProductReviewFile", "product_review_id", productReviewIds);
+        return deleteByIds("ProductReview", "product_review_id", productReviewIds);
+    }
+
+    public List<Long> findPostIds(Long writerId, int limit) {
+        return findIds("select post_id from Post where writer_id = :memberId limit :limit", writerId, limit);
+    }
+
+    public List<String> findPostFileUrls(List<Long> postIds) {
+        return findFileUrls("PostFile", "post_id", postIds);
+    }
+
+    // 다른 회원이 남긴 좋아요와 댓글은 많을 수 있으므로 limit 단위로 삭제한다.
+    public int deletePostChildren(List<Long> postIds, int limit) {
+        int deleted = deleteByPosts("PostLike", postIds, limit);
+        if (deleted < limit) {
+            deleted += deleteByPosts("Comment", postIds, limit - deleted);
+        }
+        return deleted;
+    }
+
+    public int deletePosts(List<Long> postIds) {
+        deleteByIds("PostFile", "post_id", postIds);
+        return deleteByIds("Post", "post_id", postIds);
+    }
+
+    public int deleteMember(Long memberId) {
+        return em.createNativeQuery("delete from Member where member_id = :memberId and deleted = true")
+                .setParameter("memberId", memberId)
+                .executeUpdate();
+    }
+
+    private List<Long> findIds(String sql, Long memberId, int limit) {
+        List<?> rows = em.createNativeQuery(sql)
+                .setParameter("memberId", memberId)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream().map(row -> ((Number) row).longValue()).collect(Collectors.toList());
+    }
+
+    private List<String> findFileUrls(String table, String idColumn, List<Long> ids) {
+        List<?> rows = em.createNativeQuery("select fileUrl from " + table + " where " + idColumn + " in (:ids)")
+                .setParameter("ids", ids)
+                .getResultList();
+        return rows.stream().map(String::valueOf).collect(Collectors.toList());
+    }
+
+    private List<Long[]> findReviewHelpfuls(String table, String idColumn, String reviewIdColumn, Long voterId, int limit) {
+        return toIdPairs(em.createNativeQuery(
+                        "select " + idColumn + ", " + reviewIdColumn + " from " + table + " where voter_id = :voterId limit :limit")
+                .setParameter("voterId", voterId)
+                .setParameter("limit", limit)
+                .getResultList());
+    }
+
+    private void decreaseHelpfulCounts(String reviewTable, String reviewIdColumn, List<Long> reviewIds) {
+        em.createNativeQuery("update " + reviewTable + " set helpful_count = helpful_count - 1 where " + reviewIdColumn + " in (:ids)")
+                .setParameter("ids", reviewIds)
+                .executeUpdate();
+    }
+
+    // 지울 리뷰들을 대상별로 모아 별점 집계에서 한 번에 뺀다.
+    private void subtractRatings(String targetTable, String targetIdColumn, String reviewTable, String reviewIdColumn, List<Long> reviewIds) {
+        em.createNativeQuery("update " + targetTable + " t join (" +
+                        "select " + targetIdColumn + ", sum(star) rating_sum, count(*) rating_count, " +
+                        "sum(star = 1) star1_count, sum(star = 2) star2_count, sum(star = 3) star3_count, sum(star = 4) star4_count, sum(star = 5) star5_count " +
+                        "from " + reviewTable + " where " + reviewIdColumn + " in (:ids) group by " + targetIdColumn +
+                        ") r on r." + targetIdColumn + " = t." + targetIdColumn + " " +
+                        "set t.rating_sum = t.rating_sum - r.rating_sum, t.rating_count = t.rating_count - r.rating_count, " +
+                        "t.star1_count = t.star1_count - r.star1_count, t.star2_count = t.star2_count - r.star2_count, " +
+                        "t.star3_count = t.star3_count - r.star3_count, t.star4_count = t.star4_count - r.star4_count, " +
+                        "t.star5_count = t.star5_count - r.star5_count")
+                .setParameter("ids", reviewIds)
+                .executeUpdate();
+    }
+
+    private int deleteByIds(String table, String idColumn, List<Long> ids) {
+        return em.createNativeQuery("delete from " + table + " where " + idColumn + " in (:ids)")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    private int deleteByIds(String table, String idColumn, List<Long> ids, int limit) {
+        return em.createNativeQuery("delete from " + table + " where " + idColumn + " in (:ids) limit :limit")
+                .setParameter("ids", ids)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    private int deleteByMember(String table, String memberColumn, Long memberId, int limit) {
+        return em.createNativeQuery("delete from " + table + " where " + memberColumn + " = :memberId limit :limit")
+                .setParameter("memberId", memberId)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    private int deleteByPosts(String table, List<Long> postIds, int limit) {
+        return em.createNativeQuery("delete from " + table + " where post_id in (:postIds) limit :limit")
+                .setParameter("postIds", postIds)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    private List<Long[]> toIdPairs(List<?> rows) {
+        return rows.stream()
+                .map(row -> (Object[]) row)
+                .map(row -> new Long[]{((Number) row[0]).longValue(), ((Number) row[1]).longValue()})
+                .collect(Collectors.toList());
+    }
+}
@@ -1,11 +1,24 @@
 package greeny.backend.domain.member.entity;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
-    Optional<Member> findByEmail(String email);
+    Optional<Member> findByEmailAndDeletedFalse(String email);
 
-    boolean existsByEmail(String email);
-}
\ No newline at end of file
+    boolean existsByEmailAndDeletedFalse(String email);
+
+    @Query("select m.id from Member m where m.deleted = true order by m.id")
+    List<Long> findDeletedMemberIds();
+
+    long countByDeletedTrue();
+
+    @Modifying
+    @Query("update Member m set m.deleted = true where m.id = :id")
+    int markDeletedById(@Param("id") Long id);
+}
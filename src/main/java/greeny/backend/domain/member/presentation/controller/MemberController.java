@@ -82,8 +82,15 @@ public class MemberController {
 
     @GetMapping("/simple/store-wishlist")
     @ResponseStatus(OK)
-    @Operation(summary = "Get my store wishlists api")
-    public Response getSimpleStoreBookmarkInfos(@ParameterObject Pageable pageable) {
+    @Operation(summary = "Get my store wishlists api",
+            description = "cursor를 전달하면 (첫 페이지는 빈 값) 전체 개수를 세지 않고 다음 페이지 cursor를 반환하며, sort=id,desc 외의 정렬은 400 을 반환합니다.")
+    public Response getSimpleStoreBookmarkInfos(@RequestParam(required = false) String cursor, @ParameterObject Pageable pageable) {
+        if (cursor != null) {
+            return Response.success(
+                    SUCCESS_TO_GET_STORE_WISHLIST,
+                    wishlistService.getSimpleStoreWishlistsInfoByCursor(cursor, pageable, memberService.getCurrentMember())
+            );
+        }
         return Response.success(
                 SUCCESS_TO_GET_STORE_WISHLIST, wishlistService.getSimpleStoreWishlistsInfo(pageable, memberService.getCurrentMember())
         );
@@ -91,8 +98,15 @@ public class MemberController {
 
     @GetMapping("/simple/product-wishlist")
     @ResponseStatus(OK)
-    @Operation(summary = "Get my product wishlists api")
-    public Response getSimpleProductBookmarkInfos(@ParameterObject Pageable pageable) {
+    @Operation(summary = "Get my product wishlists api",
+            description = "cursor를 전달하면 (첫 페이지는 빈 값) 전체 개수를 세지 않고 다음 페이지 cursor를 반환하며, sort=id,desc 외의 정렬은 400 을 반환합니다.")
+    public Response getSimpleProductBookmarkInfos(@RequestParam(required = false) String cursor, @ParameterObject Pageable pageable) {
+        if (cursor != null) {
+            return Response.success(
+                    SUCCESS_TO_GET_PRODUCT_WISHLIST,
+                    wishlistService.getSimpleProductWishlistsInfoByCursor(cursor, pageable, memberService.getCurrentMember())
+            );
+        }
         return Response.success(
                 SUCCESS_TO_GET_PRODUCT_WISHLIST, wishlistService.getSimpleProductWishlistsInfo(pageable, memberService.getCurrentMember())
         );
@@ -0,0 +1,175 @@
+package greeny.backend.domain.post.application;
+
+import greeny.backend.domain.post.entity.Post;
+import greeny.backend.domain.post.entity.PostRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요, 댓글, 조회수 이벤트로 갱신되는 인기 게시글 순위 (Reddit hot ranking).
+ * 점수 = log10(가중치 합) + 작성 시각 / DECAY_SECONDS 이므로 시간이 지나도 기존 순서가 바뀌지 않아
+ * 이벤트가 발생한 게시글만 다시 정렬하면 된다.
+ * 트랜잭션 안에서 발생한 이벤트는 커밋된 뒤에 반영하여, 롤백된 좋아요나 댓글이 순위에 남지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotPostRanking {
+
+    private static final int CAPACITY = 1000;
+    private static final double LIKE_WEIGHT = 3.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double VIEW_WEIGHT = 0.1;
+    private static final double DECAY_SECONDS = 45000;
+    private static final DateTimeFormatter CREATED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(
+            Comparator.comparingDouble(Entry::getScore).reversed().thenComparing(Entry::getPostId, Comparator.reverseOrder())
+    );
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Post> posts = postRepository.findAll(PageRequest.of(0, CAPACITY, Sort.by(Sort.Direction.DESC, "id"))).getContent();
+        for (Post post : posts) {
+            Entry entry = Entry.of(post);
+            update(post.getId(), previous -> entry);
+        }
+        log.info("Hot post ranking warmed up with {} posts", entries.size());
+    }
+
+    public void onWrite(Post post) {
+        Entry entry = Entry.of(post);
+        afterCommit(() -> update(entry.getPostId(), previous -> entry));
+    }
+
+    // 조회한 시점의 좋아요/댓글 수는 이미 낡았을 수 있으므로, 순위에 있는 게시글은 조회수만 늘린다.
+    public void onView(Post post) {
+        Entry entry = Entry.of(post);
+        afterCommit(() -> update(entry.getPostId(), previous -> previous != null ? previous.withViews(previous.getViews() + 1) : entry));
+    }
+
+    public void onLike(Long postId, int delta) {
+        afterCommit(() -> update(postId, previous -> previous != null ? previous.withLikes(previous.getLikes() + delta) : null));
+    }
+
+    public void onComment(Long postId, int delta) {
+        afterCommit(() -> update(postId, previous -> previous != null ? previous.withComments(previous.getComments() + delta) : null));
+    }
+
+    public void onDelete(Long postId) {
+        afterCommit(() -> update(postId, previous -> null));
+    }
+
+    public List<Long> getPostIds(long offset, int size) {
+        return ranking.stream()
+                .skip(offset)
+                .limit(size)
+                .map(Entry::getPostId)
+                .collect(Collectors.toList());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 트랜잭션 밖에서 호출되면 바로 반영한다.
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    // 같은 게시글의 갱신은 entries.compute 안에서 하나씩 일어나므로, 전역 잠금 없이도 ranking 에 이전 항목이 남지 않는다.
+    private void update(Long postId, UnaryOperator<Entry> updater) {
+        entries.compute(postId, (id, previous) -> {
+            Entry updated = updater.apply(previous);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            if (updated != null) {
+                ranking.add(updated);
+            }
+            return updated;
+        });
+        evictOverCapacity();
+    }
+
+    // 가장 낮은 항목을 꺼낸 뒤 그 사이 갱신되지 않은 경우에만 entries 에서 지운다.
+    private void evictOverCapacity() {
+        while (entries.size() > CAPACITY) {
+            Entry lowest = ranking.pollLast();
+            if (lowest == null) {
+                return;
+            }
+            entries.remove(lowest.getPostId(), lowest);
+        }
+    }
+
+    @Getter
+    private static class Entry {
+
+        private final Long postId;
+        private final long createdAt;
+        private final int likes;
+        private final int comments;
+        private final int views;
+        private final double score;
+
+        private Entry(Long postId, long createdAt, int likes, int comments, int views) {
+            this.postId = postId;
+            this.createdAt = createdAt;
+            this.likes = likes;
+            this.comments = comments;
+            this.views = views;
+            double points = likes * LIKE_WEIGHT + comments * COMMENT_WEIGHT + views * VIEW_WEIGHT;
+            this.score = Math.log10(Math.max(points, 1)) + createdAt / DECAY_SECONDS;
+        }
+
+        private static Entry of(Post post) {
+            long createdAt = LocalDateTime.parse(post.getCreatedAt(), CREATED_AT_FORMATTER)
+                    .atZone(ZoneId.systemDefault())
+                    .toEpochSecond();
+            return new Entry(post.getId(), createdAt, post.getLikes(), post.getCommentCount(), post.getHits());
+        }
+
+        private Entry withLikes(int likes) {
+            return new Entry(postId, createdAt, likes, comments, views);
+        }
+
+        private Entry withComments(int comments) {
+            return new Entry(postId, createdAt, likes, comments, views);
+        }
+
+        private Entry withViews(int views) {
+            return new Entry(postId, createdAt, likes, comments, views);
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package greeny.backend.domain.post.application;
 
+import greeny.backend.domain.AuditEntity;
 import greeny.backend.domain.member.entity.Member;
-import greeny.backend.domain.post.entity.Post;
-import greeny.backend.domain.post.entity.PostLike;
 import greeny.backend.domain.post.entity.PostLikeRepository;
 import greeny.backend.domain.post.entity.PostRepository;
 import greeny.backend.exception.situation.post.PostNotFoundException;
@@ -11,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -20,46 +18,42 @@ public class PostLikeService {
 
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
+    private final HotPostRanking hotPostRanking;
 
+    /**
+     * 게시글 행의 배타 잠금을 좋아요 수 갱신으로 먼저 잡은 뒤 좋아요를 추가한다.
+     * 추가하면서 공유 잠금을 먼저 잡으면 동시에 좋아요한 요청끼리 배타 잠금을 기다리며 교착 상태에 빠진다.
+     * 이미 좋아요한 경우에는 좋아요를 삭제하고 미리 늘린 수까지 되돌린다.
+     */
     @Transactional
     public void like(Long postId, Member liker) {
-        toggle(postId, liker, findPostLike(postId, liker));
-    }
-
-    public Optional<PostLike> findPostLike(Long postId, Member liker) {
-        return postLikeRepository.findByPostAndLiker(getPost(postId), liker);
-    }
-
-    public void toggle(Long postId, Member liker, Optional<PostLike> postLike) {
-        if (postLike.isEmpty()) {
-            create(postId, liker);
+        if (postRepository.increaseLikesUnlessWriter(postId, liker.getId()) == 0) {
+            throw notLikableException(postId);
+        }
+        if (create(postId, liker)) {
+            hotPostRanking.onLike(postId, 1);
             return;
         }
-        delete(postLike.get());
-    }
-
-    public void create(Long postId, Member liker) {
-        Post post = getPostWithWriter(postId);
-        if (post.getWriter().getId().equals(liker.getId())) {
-            throw new SelfLikeNotAllowedException();
+        if (delete(postId, liker)) {
+            postRepository.updateLikes(postId, -2);
+            hotPostRanking.onLike(postId, -1);
+            return;
         }
-        postLikeRepository.save(
-                PostLike.builder()
-                        .post(post)
-                        .liker(liker)
-                        .build()
-        );
+        postRepository.updateLikes(postId, -1);
     }
 
-    private void delete(PostLike postLike) {
-        postLikeRepository.delete(postLike);
+    private boolean create(Long postId, Member liker) {
+        return postLikeRepository.insertIgnore(postId, liker.getId(), AuditEntity.formatDateTime()) == 1;
     }
 
-    public Post getPost(Long postId) {
-        return postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+    private boolean delete(Long postId, Member liker) {
+        return postLikeRepository.deleteByPostIdAndLikerId(postId, liker.getId()) == 1;
     }
 
-    public Post getPostWithWriter(Long postId) {
-        return postRepository.findByIdWithWriter(postId).orElseThrow(PostNotFoundException::new);
+    // 좋아요 수를 늘리지 못한 경우 게시글 존재 여부로 원인을 구분
+    private RuntimeException notLikableException(Long postId) {
+        return postRepository.findWriterIdById(postId)
+                .<RuntimeException>map(writerId -> new SelfLikeNotAllowedException())
+                .orElseGet(PostNotFoundException::new);
     }
-}
\ No newline at end of file
+}
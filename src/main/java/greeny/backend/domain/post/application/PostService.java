@@ -1,68 +1,149 @@
 package greeny.backend.domain.post.application;
 
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.comment.entity.CommentRepository;
+import greeny.backend.domain.file.application.FileDeletionService;
 import greeny.backend.domain.member.entity.Member;
-import greeny.backend.infrastructure.aws.S3Service;
-import greeny.backend.domain.post.entity.PostLike;
+import greeny.backend.infrastructure.image.ImageVariant;
+import greeny.backend.infrastructure.image.ImageVariantService;
+import greeny.backend.infrastructure.storage.FileService;
+import greeny.backend.infrastructure.cache.CountCache;
+import greeny.backend.domain.post.presentation.dto.EditPostRequestDto;
 import greeny.backend.domain.post.presentation.dto.WritePostRequestDto;
 import greeny.backend.domain.post.entity.Post;
 import greeny.backend.domain.post.entity.PostFile;
+import greeny.backend.domain.post.entity.PostFileRepository;
+import greeny.backend.domain.post.entity.PostLikeRepository;
 import greeny.backend.domain.post.entity.PostRepository;
 import greeny.backend.domain.post.presentation.dto.GetSimplePostInfosResponseDto;
 import greeny.backend.domain.post.presentation.dto.GetPostInfoResponseDto;
 import greeny.backend.exception.situation.member.MemberNotEqualsException;
 import greeny.backend.exception.situation.post.PostNotFoundException;
+import greeny.backend.response.Cursor;
+import greeny.backend.response.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final String COUNT_KEY_PREFIX = "post";
+
     private final PostRepository postRepository;
-    private final S3Service s3Service;
+    private final PostLikeRepository postLikeRepository;
+    private final PostFileRepository postFileRepository;
+    private final CommentRepository commentRepository;
+    private final FileService fileService;
+    private final ImageVariantService imageVariantService;
+    private final FileDeletionService fileDeletionService;
+    private final HotPostRanking hotPostRanking;
+    private final CountCache countCache;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public void writePost(WritePostRequestDto writePostRequestDto, List<MultipartFile> postFiles, Member writer) {
-        if (checkEmptyPostFiles(postFiles)) {
-            save(writePostRequestDto.toEntity(writer, false));
-            return;
-        }
-        uploadPostFiles(postFiles, save(writePostRequestDto.toEntity(writer, true)));
+    // 파일은 클라이언트가 저장소에 직접 올리거나 이어 올리기로 올리고, 여기서는 올라간 파일을 확인한 뒤 파일 이름만 짧은 트랜잭션으로 저장한다.
+    public void writePost(WritePostRequestDto writePostRequestDto, Member writer) {
+        Post post = fileService.attachUploadedFiles(
+                writePostRequestDto.getFileKeys(),
+                writePostRequestDto.getUploadIds(),
+                writer.getId(),
+                fileUrls -> transactionTemplate.execute(status -> {
+                    Post savedPost = save(writePostRequestDto.toEntity(writer, !fileUrls.isEmpty()));
+                    addPostFiles(fileUrls, savedPost);
+                    return savedPost;
+                })
+        );
+        imageVariantService.generateAsync(post.getPostFiles(), postFileRepository);
+        hotPostRanking.onWrite(post);
+        countCache.invalidate(COUNT_KEY_PREFIX);
     }
 
     @Transactional(readOnly = true)
-    public Page<GetSimplePostInfosResponseDto> getSimplePostInfos(Pageable pageable) {
-        return postRepository.findAll(pageable).map(GetSimplePostInfosResponseDto::from);
+    public Slice<GetSimplePostInfosResponseDto> searchSimplePostInfos(String keyword, boolean slice, Pageable pageable) {
+        return searchPosts(keyword, slice, pageable).map(GetSimplePostInfosResponseDto::from);
     }
 
     @Transactional(readOnly = true)
-    public Page<GetSimplePostInfosResponseDto> searchSimplePostInfos(String keyword, Pageable pageable) {
-        if (!StringUtils.hasText(keyword)) {
-            return getSimplePostInfos(pageable);
+    public CursorPage<GetSimplePostInfosResponseDto> searchSimplePostInfosByCursor(String keyword, String cursor, Pageable pageable) {
+        String searchKeyword = StringUtils.hasText(keyword) ? keyword : null;
+        int size = pageable.getPageSize();
+        if (Cursor.isSortedBy(pageable.getSort(), "likes")) {
+            Cursor decodedCursor = Cursor.decode(cursor, 2);
+            return CursorPage.of(
+                    postRepository.findAllOrderByLikesByCursor(
+                            searchKeyword,
+                            decodedCursor.getInt(0, Integer.MAX_VALUE),
+                            decodedCursor.getLong(1, Long.MAX_VALUE),
+                            PageRequest.of(0, size + 1)
+                    ),
+                    size,
+                    post -> Cursor.encode(post.getLikes(), post.getId()),
+                    GetSimplePostInfosResponseDto::from
+            );
         }
-        return postRepository.findAllByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword, pageable)
-                .map(GetSimplePostInfosResponseDto::from);
+        Cursor.validateIdSort(pageable.getSort());
+        return CursorPage.of(
+                postRepository.findAllByCursor(searchKeyword, Cursor.decode(cursor, 1).getLong(0, Long.MAX_VALUE), PageRequest.of(0, size + 1)),
+                size,
+                post -> Cursor.encode(post.getId()),
+                GetSimplePostInfosResponseDto::from
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<GetSimplePostInfosResponseDto> searchSimplePostInfosWithAuthMember(
+            String keyword,
+            boolean slice,
+            Pageable pageable,
+            Member currentMember
+    ) {
+        Slice<Post> posts = searchPosts(keyword, slice, pageable);
+        Set<Long> likedPostIds = getLikedPostIds(posts.getContent(), currentMember);
+        return posts.map(post -> GetSimplePostInfosResponseDto.from(post, likedPostIds.contains(post.getId())));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<GetSimplePostInfosResponseDto> getHotSimplePostInfos(Pageable pageable) {
+        List<Long> postIds = hotPostRanking.getPostIds(pageable.getOffset(), pageable.getPageSize());
+        Map<Long, Post> posts = postRepository.findAllByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<GetSimplePostInfosResponseDto> hotPosts = postIds.stream()
+                .filter(posts::containsKey)
+                .map(postId -> GetSimplePostInfosResponseDto.from(posts.get(postId)))
+                .collect(Collectors.toList());
+        return new PageImpl<>(hotPosts, pageable, hotPostRanking.size());
     }
 
     @Transactional
-    public GetPostInfoResponseDto getPostInfo(Long postId) {
-        Post post = postRepository.findByIdWithWriterAndPostFilesAndPostLikes(postId).orElseThrow(PostNotFoundException::new);
+    public GetPostInfoResponseDto getPostInfo(Long postId, ImageVariant size) {
+        Post post = postRepository.findByIdWithWriterAndPostFiles(postId).orElseThrow(PostNotFoundException::new);
         post.updateHits();
-        return GetPostInfoResponseDto.from(post, false, false);
+        hotPostRanking.onView(post);
+        return GetPostInfoResponseDto.from(post, false, false, size);
     }
 
     @Transactional
-    public GetPostInfoResponseDto getPostInfoWithAuthMember(Long postId, Member currentMember) {
-        Post post = postRepository.findByIdWithWriterAndPostFilesAndPostLikes(postId).orElseThrow(PostNotFoundException::new);
+    public GetPostInfoResponseDto getPostInfoWithAuthMember(Long postId, ImageVariant size, Member currentMember) {
+        Post post = postRepository.findByIdWithWriterAndPostFiles(postId).orElseThrow(PostNotFoundException::new);
         post.updateHits();
-        return GetPostInfoResponseDto.from(post, isWriter(post, currentMember), isLiked(post, currentMember));
+        hotPostRanking.onView(post);
+        return GetPostInfoResponseDto.from(post, isWriter(post, currentMember), isLiked(post, currentMember), size);
     }
 
     @Transactional(readOnly = true)
@@ -72,57 +153,113 @@ public class PostService {
 
     @Transactional(readOnly = true)
     public Boolean isLiked(Post post, Member currentMember) {
-        for (PostLike postLike : post.getPostLikes()) {
-            if (postLike.getLiker().getId().equals(currentMember.getId())) {
-                return true;
-            }
+        return postLikeRepository.existsByPostIdAndLikerId(post.getId(), currentMember.getId());
+    }
+
+    // slice 이면 전체 개수를 세지 않고, 아니면 검색어별로 캐싱된 개수를 사용
+    private Slice<Post> searchPosts(String keyword, boolean slice, Pageable pageable) {
+        Slice<Post> posts = StringUtils.hasText(keyword)
+                ? postRepository.findSliceByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword, pageable)
+                : postRepository.findSliceBy(pageable);
+        if (slice) {
+            return posts;
         }
-        return false;
+        return countCache.toPage(
+                posts,
+                CountCache.key(COUNT_KEY_PREFIX, keyword),
+                () -> StringUtils.hasText(keyword)
+                        ? postRepository.countByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(keyword, keyword)
+                        : postRepository.count()
+        );
+    }
+
+    // 한 페이지에 포함된 게시글들의 좋아요 여부를 한 번의 쿼리로 조회
+    private Set<Long> getLikedPostIds(List<Post> posts, Member currentMember) {
+        if (posts.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+        return new HashSet<>(postLikeRepository.findLikedPostIds(currentMember.getId(), postIds));
     }
 
     @Transactional
     public void deletePost(Long postId, Member currentMember) {
-        Post post = postRepository.findByIdWithWriterAndPostFiles(postId).orElseThrow(PostNotFoundException::new);
-        if (!post.getWriter().getId().equals(currentMember.getId())) {
-            throw new MemberNotEqualsException();
-        }
+        Long writerId = currentMember.getId();
+        List<String> fileUrls = postFileRepository.findFileUrlsByPostIdAndWriterId(postId, writerId);
 
-        List<String> fileUrls = new ArrayList<>();
-        for(String fileUrl : post.getFileUrls()) {
-            fileUrls.add(fileUrl);
+        // 자식 테이블은 작성자가 일치하는 경우에만 삭제되고, 게시글 삭제 결과로 권한을 확인한다.
+        postFileRepository.deleteAllByPostIdAndWriterId(postId, writerId);
+        postLikeRepository.deleteAllByPostIdAndWriterId(postId, writerId);
+        commentRepository.deleteAllByPostIdAndWriterId(postId, writerId);
+        if (postRepository.deleteByIdAndWriterId(postId, writerId) == 0) {
+            throw postRepository.existsById(postId) ? new MemberNotEqualsException() : new PostNotFoundException();
         }
 
-        postRepository.delete(post);
-        for(String fileUrl : fileUrls) {
-            s3Service.deleteFile(fileUrl);
-        }
+        fileDeletionService.enqueue(fileUrls);
+        hotPostRanking.onDelete(postId);
+        countCache.invalidate(COUNT_KEY_PREFIX);
     }
 
-    @Transactional
-    public void editPostInfo(Long postId, WritePostRequestDto editPostInfoRequestDto, List<MultipartFile> postFiles, Member currentMember) {
-        Post post = postRepository.findByIdWithWriterAndPostFiles(postId).orElseThrow(PostNotFoundException::new);
-        if (!post.getWriter().getId().equals(currentMember.getId())) {
-            throw new MemberNotEqualsException();
+    /**
+     * 유지할 파일 외의 기존 파일만 삭제하고, 새로 첨부된 파일만 업로드한다.
+     * 파일 변경 없이 글만 수정하면 UPDATE 한 번으로 처리한다.
+     */
+    public void editPostInfo(Long postId, EditPostRequestDto editPostRequestDto, List<MultipartFile> postFiles, Member currentMember) {
+        if (editPostRequestDto.keepsAllFiles() && (postFiles == null || postFiles.isEmpty())) {
+            editPostText(postId, editPostRequestDto, currentMember);
+            return;
         }
 
-        List<String> fileUrls = post.getFileUrls();
-        post.getPostFiles().clear();
-        if (checkEmptyPostFiles(postFiles)) {
-            update(post, editPostInfoRequestDto.getTitle(), editPostInfoRequestDto.getContent(), false);
-        }
-        if (!checkEmptyPostFiles(postFiles)) {
-            update(post, editPostInfoRequestDto.getTitle(), editPostInfoRequestDto.getContent(), true);
-            uploadPostFiles(postFiles, post);
+        validateWriter(postId, currentMember);
+        List<PostFile> addedPostFiles = new ArrayList<>();
+        fileService.uploadFiles(postFiles, fileUrls -> transactionTemplate.execute(status -> {
+            Post post = postRepository.findByIdWithWriterAndPostFiles(postId).orElseThrow(PostNotFoundException::new);
+            if (!post.getWriter().getId().equals(currentMember.getId())) {
+                throw new MemberNotEqualsException();
+            }
+
+            if (!editPostRequestDto.keepsAllFiles()) {
+                Set<String> keepFileUrls = new HashSet<>(editPostRequestDto.getKeepFileUrls());
+                List<PostFile> removedPostFiles = post.getPostFiles().stream()
+                        .filter(postFile -> !keepFileUrls.contains(postFile.getFileUrl()))
+                        .collect(Collectors.toList());
+                post.getPostFiles().removeAll(removedPostFiles);
+                fileDeletionService.enqueue(removedPostFiles.stream().map(PostFile::getFileUrl).collect(Collectors.toList()));
+            }
+            int existingFileCount = post.getPostFiles().size();
+            addPostFiles(fileUrls, post);
+            addedPostFiles.addAll(post.getPostFiles().subList(existingFileCount, post.getPostFiles().size()));
+            update(post, editPostRequestDto.getTitle(), editPostRequestDto.getContent(), !post.getPostFiles().isEmpty());
+            return post;
+        }));
+        imageVariantService.generateAsync(addedPostFiles, postFileRepository);
+    }
+
+    private void editPostText(Long postId, EditPostRequestDto editPostRequestDto, Member currentMember) {
+        int updated = transactionTemplate.execute(status -> postRepository.updateTitleAndContentByIdAndWriterId(
+                postId,
+                currentMember.getId(),
+                editPostRequestDto.getTitle(),
+                editPostRequestDto.getContent(),
+                AuditEntity.formatDateTime()
+        ));
+        if (updated == 0) {
+            throw postRepository.existsById(postId) ? new MemberNotEqualsException() : new PostNotFoundException();
         }
+    }
 
-        for(String fileUrl : fileUrls)
-            s3Service.deleteFile(fileUrl);
+    // 업로드 전에 권한을 확인하여 불필요한 업로드를 막는다.
+    private void validateWriter(Long postId, Member currentMember) {
+        Long writerId = postRepository.findWriterIdById(postId).orElseThrow(PostNotFoundException::new);
+        if (!writerId.equals(currentMember.getId())) {
+            throw new MemberNotEqualsException();
+        }
     }
 
-    public void uploadPostFiles(List<MultipartFile> postFiles, Post post) {
-        for (MultipartFile multipartFile : postFiles) {
+    private void addPostFiles(List<String> fileUrls, Post post) {
+        for (String fileUrl : fileUrls) {
             PostFile postFile = PostFile.builder()
-                    .fileUrl(s3Service.uploadFile(multipartFile))
+                    .fileUrl(fileUrl)
                     .post(post)
                     .build();
             post.getPostFiles().add(postFile);
@@ -134,10 +271,6 @@ public class PostService {
         return postRepository.findAllByWriterId(currentMember.getId(), pageable).map(GetSimplePostInfosResponseDto::from);
     }
 
-    private boolean checkEmptyPostFiles(List<MultipartFile> postFiles) {
-        return postFiles.isEmpty();
-    }
-
     private Post save(Post post) {
         return postRepository.save(post);
     }
@@ -1,15 +1,12 @@
 package greeny.backend.domain.post.entity;
 
 import greeny.backend.domain.AuditEntity;
-import greeny.backend.domain.comment.entity.Comment;
+import greeny.backend.infrastructure.image.ImageVariant;
 import greeny.backend.domain.member.entity.Member;
 import lombok.*;
-import org.hibernate.annotations.Formula;
 import javax.persistence.*;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import static javax.persistence.CascadeType.ALL;
 
 @Entity
@@ -17,6 +14,7 @@ import static javax.persistence.CascadeType.ALL;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
+@Table(indexes = @Index(name = "idx_post_like_count", columnList = "like_count, post_id"))
 public class Post extends AuditEntity {
 
     @Id
@@ -32,12 +30,6 @@ public class Post extends AuditEntity {
     @Builder.Default
     private List<PostFile> postFiles = new ArrayList<>();
 
-    @OneToMany(mappedBy = "post", cascade = ALL, orphanRemoval = true)
-    private Set<PostLike> postLikes = new HashSet<>();
-
-    @OneToMany(mappedBy = "post", cascade = ALL, orphanRemoval = true)
-    private List<Comment> comments = new ArrayList<>();
-
     @Column(nullable = false)
     private String title;
 
@@ -50,8 +42,13 @@ public class Post extends AuditEntity {
     @Column(nullable = false)
     private Boolean hasPostFile;
 
-    @Formula("(select count(1) from post_like pl where pl.post_id = post_id)")
-    private Integer likes;
+    @Column(name = "like_count", nullable = false)
+    @Builder.Default
+    private Integer likes = 0;
+
+    @Column(name = "comment_count", nullable = false)
+    @Builder.Default
+    private Integer commentCount = 0;
 
     public List<String> getFileUrls(){
         List<String> fileUrls = new ArrayList<>();
@@ -61,6 +58,14 @@ public class Post extends AuditEntity {
         return fileUrls;
     }
 
+    public List<String> getFileUrls(ImageVariant variant){
+        List<String> fileUrls = new ArrayList<>();
+        for(PostFile postFile : postFiles){
+            fileUrls.add(postFile.getFileUrl(variant));
+        }
+        return fileUrls;
+    }
+
     public void updateHits(){
         this.hits += 1;
     }
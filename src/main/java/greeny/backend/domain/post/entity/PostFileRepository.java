@@ -0,0 +1,17 @@
+package greeny.backend.domain.post.entity;
+
+import greeny.backend.domain.file.entity.VariantFileRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface PostFileRepository extends VariantFileRepository<PostFile> {
+
+    @Query("select pf.fileUrl from PostFile pf where pf.post.id = :postId and pf.post.writer.id = :writerId")
+    List<String> findFileUrlsByPostIdAndWriterId(@Param("postId") Long postId, @Param("writerId") Long writerId);
+
+    @Modifying
+    @Query("delete from PostFile pf where pf.post.id in (select p.id from Post p where p.id = :postId and p.writer.id = :writerId)")
+    int deleteAllByPostIdAndWriterId(@Param("postId") Long postId, @Param("writerId") Long writerId);
+}
\ No newline at end of file
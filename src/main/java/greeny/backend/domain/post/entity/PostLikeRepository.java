@@ -2,6 +2,10 @@ package greeny.backend.domain.post.entity;
 
 import greeny.backend.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -9,4 +13,23 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByPostAndLiker(Post post, Member liker);
 
     boolean existsByPostAndLiker(Post post, Member liker);
-}
\ No newline at end of file
+
+    boolean existsByPostIdAndLikerId(Long postId, Long likerId);
+
+    @Query("select pl.post.id from PostLike pl where pl.liker.id = :likerId and pl.post.id in :postIds")
+    List<Long> findLikedPostIds(@Param("likerId") Long likerId, @Param("postIds") List<Long> postIds);
+
+    // 게시글 행을 먼저 잠근 뒤 호출하며, 이미 좋아요한 경우 unique_post_liker 에 의해 무시된다.
+    @Modifying
+    @Query(value = "insert ignore into PostLike (post_id, liker_id, createdAt, updatedAt) values (:postId, :likerId, :now, :now)",
+            nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("likerId") Long likerId, @Param("now") String now);
+
+    @Modifying
+    @Query("delete from PostLike pl where pl.post.id = :postId and pl.liker.id = :likerId")
+    int deleteByPostIdAndLikerId(@Param("postId") Long postId, @Param("likerId") Long likerId);
+
+    @Modifying
+    @Query("delete from PostLike pl where pl.post.id in (select p.id from Post p where p.id = :postId and p.writer.id = :writerId)")
+    int deleteAllByPostIdAndWriterId(@Param("postId") Long postId, @Param("writerId") Long writerId);
+}
@@ -3,10 +3,13 @@ package greeny.backend.domain.post.entity;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -19,7 +22,32 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findAllByWriterId(Long writerId, Pageable pageable);
 
     @EntityGraph(attributePaths = {"writer"})
-    Page<Post> findAllByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(String title, String content, Pageable pageable);
+    Slice<Post> findSliceBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"writer"})
+    Slice<Post> findSliceByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(String title, String content, Pageable pageable);
+
+    long countByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(String title, String content);
+
+    @EntityGraph(attributePaths = {"writer"})
+    List<Post> findAllByIdIn(List<Long> ids);
+
+    @Query("select p from Post p join fetch p.writer " +
+            "where p.id < :id " +
+            "and (:keyword is null or lower(p.title) like lower(concat('%', :keyword, '%')) or lower(p.content) like lower(concat('%', :keyword, '%'))) " +
+            "order by p.id desc")
+    List<Post> findAllByCursor(@Param("keyword") String keyword, @Param("id") Long id, Pageable pageable);
+
+    @Query("select p from Post p join fetch p.writer " +
+            "where (p.likes < :likes or (p.likes = :likes and p.id < :id)) " +
+            "and (:keyword is null or lower(p.title) like lower(concat('%', :keyword, '%')) or lower(p.content) like lower(concat('%', :keyword, '%'))) " +
+            "order by p.likes desc, p.id desc")
+    List<Post> findAllOrderByLikesByCursor(
+            @Param("keyword") String keyword,
+            @Param("likes") Integer likes,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 
     @Query("select p from Post p left join fetch p.writer where p.id = :id")
     Optional<Post> findByIdWithWriter(@Param("id") Long id);
@@ -27,6 +55,34 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("select p from Post p left join fetch p.writer left join fetch p.postFiles where p.id = :id")
     Optional<Post> findByIdWithWriterAndPostFiles(@Param("id") Long id);
 
-    @Query("select p from Post p left join fetch p.writer left join fetch p.postFiles left join fetch p.postLikes where p.id = :id")
-    Optional<Post> findByIdWithWriterAndPostFilesAndPostLikes(@Param("id") Long id);
+    @Query("select p.writer.id from Post p where p.id = :id")
+    Optional<Long> findWriterIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Post p set p.likes = p.likes + :delta where p.id = :id")
+    int updateLikes(@Param("id") Long id, @Param("delta") int delta);
+
+    // 작성자가 아닌 경우에만 좋아요 수를 늘리며, 게시글 행의 배타 잠금을 트랜잭션 끝까지 유지한다.
+    @Modifying
+    @Query("update Post p set p.likes = p.likes + 1 where p.id = :id and p.writer.id <> :likerId")
+    int increaseLikesUnlessWriter(@Param("id") Long id, @Param("likerId") Long likerId);
+
+    // bulk 수정이므로 수정 시각을 직접 지정한다.
+    @Modifying
+    @Query("update Post p set p.title = :title, p.content = :content, p.updatedAt = :now where p.id = :id and p.writer.id = :writerId")
+    int updateTitleAndContentByIdAndWriterId(
+            @Param("id") Long id,
+            @Param("writerId") Long writerId,
+            @Param("title") String title,
+            @Param("content") String content,
+            @Param("now") String now
+    );
+
+    @Modifying
+    @Query("delete from Post p where p.id = :id and p.writer.id = :writerId")
+    int deleteByIdAndWriterId(@Param("id") Long id, @Param("writerId") Long writerId);
+
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta where p.id = :id")
+    int updateCommentCount(@Param("id") Long id, @Param("delta") int delta);
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package greeny.backend.domain.post.presentation.controller;
 
 import greeny.backend.domain.member.application.MemberService;
+import greeny.backend.domain.post.presentation.dto.EditPostRequestDto;
 import greeny.backend.domain.post.presentation.dto.WritePostRequestDto;
 import greeny.backend.domain.post.application.PostService;
+import greeny.backend.infrastructure.idempotency.IdempotencyStore;
+import greeny.backend.infrastructure.image.ImageVariant;
 import greeny.backend.response.Response;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,16 +31,20 @@ public class PostController {
 
     private final PostService postService;
     private final MemberService memberService;
+    private final IdempotencyStore idempotencyStore;
 
-    @PostMapping(consumes = MULTIPART_FORM_DATA_VALUE)
+    @PostMapping
     @ResponseStatus(OK)
-    @Operation(summary = "Write post API", description = "Put your post info to write. you can skip files.")
+    @Operation(summary = "Write post API", description = "Put your post info to write. you can skip fileKeys from upload urls API and uploadIds from resumable upload API. " +
+            "Put Idempotency-Key header to retry safely, the same key returns the first response and reusing it with a different body returns 422.")
     public Response writePost(
-            @Valid @RequestPart(name = "body(json)") WritePostRequestDto writePostRequestDto,
-            @RequestPart(name = "files", required = false) List<MultipartFile> multipartFiles
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @Valid @RequestBody WritePostRequestDto writePostRequestDto
     ) {
-        postService.writePost(writePostRequestDto, multipartFiles, memberService.getCurrentMember());
-        return success(SUCCESS_TO_WRITE_POST);
+        return idempotencyStore.execute("post", idempotencyKey, writePostRequestDto, () -> {
+            postService.writePost(writePostRequestDto, memberService.getCurrentMember());
+            return success(SUCCESS_TO_WRITE_POST);
+        });
     }
 
     @GetMapping("/search")
@@ -45,27 +52,76 @@ public class PostController {
     @Operation(summary = "Search simple post infos API",
             description = "Put keyword and page info what you want, you can skip parameters. " +
                     " sort=id,desc : 일반 게시판 (최신순). " +
-                    " sort=likes,desc&sort=hits,desc : 베스트 게시판 (좋아요순 + 조회수순).")
+                    " sort=likes,desc&sort=hits,desc : 베스트 게시판 (좋아요순 + 조회수순)." +
+                    " cursor를 전달하면 (첫 페이지는 빈 값) 전체 개수를 세지 않고 다음 페이지 cursor를 반환합니다." +
+                    " cursor 사용 시 정렬은 sort=id,desc 또는 sort=likes,desc 만 지원하며, 그 외 정렬은 400 을 반환합니다." +
+                    " slice=true 이면 전체 개수를 세지 않고 다음 페이지 존재 여부만 반환하며, 그 외에는 totalElements 가 근사값일 수 있습니다 (exactCount).")
     public Response searchSimplePostInfos(
             @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean slice,
             @ParameterObject Pageable pageable
     ) {
-        return Response.success(SUCCESS_TO_SEARCH_POST_LIST, postService.searchSimplePostInfos(keyword, pageable));
+        if (cursor != null) {
+            return Response.success(SUCCESS_TO_SEARCH_POST_LIST, postService.searchSimplePostInfosByCursor(keyword, cursor, pageable));
+        }
+        return Response.success(SUCCESS_TO_SEARCH_POST_LIST, postService.searchSimplePostInfos(keyword, slice, pageable));
+    }
+
+    @GetMapping("/hot")
+    @ResponseStatus(OK)
+    @Operation(summary = "Get hot simple post infos API",
+            description = "Put page info what you want, you can skip parameters. " +
+                    "좋아요, 댓글, 조회수와 작성 시각을 반영한 인기 게시판 (인기순).")
+    public Response getHotSimplePostInfos(@ParameterObject Pageable pageable) {
+        return Response.success(SUCCESS_TO_GET_POST_LIST, postService.getHotSimplePostInfos(pageable));
+    }
+
+    @GetMapping("/auth/search")
+    @ResponseStatus(OK)
+    @Operation(summary = "Search simple post infos with auth member API",
+            description = "Put keyword and page info what you want, you can skip parameters. " +
+                    "Each post includes whether current member liked it." +
+                    " slice=true 이면 전체 개수를 세지 않고 다음 페이지 존재 여부만 반환합니다.")
+    public Response searchSimplePostInfosWithAuthMember(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @ParameterObject Pageable pageable
+    ) {
+        return Response.success(
+                SUCCESS_TO_SEARCH_POST_LIST,
+                postService.searchSimplePostInfosWithAuthMember(keyword, slice, pageable, memberService.getCurrentMember())
+        );
     }
 
     @GetMapping
     @ResponseStatus(OK)
-    @Operation(summary = "Get post info API", description = "Put post id what you want to see.")
-    public Response getPostInfo(Long postId){
-        return Response.success(SUCCESS_TO_GET_POST, postService.getPostInfo(postId));
+    @Operation(summary = "Get post info API", description = "Put post id what you want to see." +
+            " size=THUMBNAIL 또는 size=MEDIUM 이면 축소본 주소를 반환하며, 생략하면 원본 주소를 반환합니다." +
+            " proxy=true 이면 이미지 캐시를 거치는 proxyUrls 도 함께 반환합니다.")
+    public Response getPostInfo(
+            Long postId,
+            @RequestParam(required = false) ImageVariant size,
+            @RequestParam(defaultValue = "false") boolean proxy
+    ){
+        return Response.success(SUCCESS_TO_GET_POST, postService.getPostInfo(postId, size).withProxyUrls(proxy));
 
     }
 
     @GetMapping("/auth")
     @ResponseStatus(OK)
-    @Operation(summary = "Get post info with auth member API", description = "Put post id what you want to see.")
-    public Response getPostInfoWithAuthMember(Long postId){
-        return Response.success(SUCCESS_TO_GET_POST, postService.getPostInfoWithAuthMember(postId, memberService.getCurrentMember()));
+    @Operation(summary = "Get post info with auth member API", description = "Put post id what you want to see." +
+            " size=THUMBNAIL 또는 size=MEDIUM 이면 축소본 주소를 반환하며, 생략하면 원본 주소를 반환합니다." +
+            " proxy=true 이면 이미지 캐시를 거치는 proxyUrls 도 함께 반환합니다.")
+    public Response getPostInfoWithAuthMember(
+            Long postId,
+            @RequestParam(required = false) ImageVariant size,
+            @RequestParam(defaultValue = "false") boolean proxy
+    ){
+        return Response.success(
+                SUCCESS_TO_GET_POST,
+                postService.getPostInfoWithAuthMember(postId, size, memberService.getCurrentMember()).withProxyUrls(proxy)
+        );
     }
 
     @DeleteMapping
@@ -78,10 +134,12 @@ public class PostController {
 
     @PutMapping(consumes = MULTIPART_FORM_DATA_VALUE)
     @ResponseStatus(OK)
-    @Operation(summary = "Edit post info API", description = "Put post info what you want to edit.")
+    @Operation(summary = "Edit post info API", description = "Put post info what you want to edit." +
+            " keepFileUrls 에 남길 기존 파일 주소를 전달하고, files 에는 새로 추가할 파일만 첨부합니다." +
+            " keepFileUrls 를 생략하면 기존 파일을 모두 유지합니다.")
     public Response editPostInfo(
             Long postId,
-            @Valid @RequestPart(name = "body(json)") WritePostRequestDto editPostInfoRequestDto,
+            @Valid @RequestPart(name = "body(json)") EditPostRequestDto editPostInfoRequestDto,
             @RequestPart(name = "files", required = false) List<MultipartFile> multipartFiles
     ) {
         postService.editPostInfo(postId, editPostInfoRequestDto, multipartFiles, memberService.getCurrentMember());
@@ -0,0 +1,31 @@
+package greeny.backend.domain.post.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class EditPostRequestDto {
+
+    @NotBlank(message = "제목을 입력해주세요.")
+    @Size(max = 255, message = "255자 이하로 입력해주세요.")
+    @Schema(description = "글 제목", defaultValue = "요즘 날씨 너무 덥네요.")
+    private String title;
+
+    @NotBlank(message = "내용을 입력해주세요.")
+    @Size(max = 500, message = "500자 이하로 입력해주세요.")
+    @Schema(description = "글 내용", defaultValue = "빨리 가을이 왔으면 좋겠어요.")
+    private String content;
+
+    @Schema(description = "유지할 기존 파일 주소 목록. 생략하면 기존 파일을 모두 유지합니다.")
+    private List<String> keepFileUrls;
+
+    public boolean keepsAllFiles() {
+        return keepFileUrls == null;
+    }
+}
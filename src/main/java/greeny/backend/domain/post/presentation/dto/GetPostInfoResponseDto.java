@@ -2,8 +2,11 @@ package greeny.backend.domain.post.presentation.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import greeny.backend.domain.post.entity.Post;
+import greeny.backend.infrastructure.image.ImageCache;
+import greeny.backend.infrastructure.image.ImageVariant;
 import lombok.*;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Data
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -18,11 +21,12 @@ public class GetPostInfoResponseDto {
     private String title;
     private String content;
     private List<String> fileUrls;
+    private List<String> proxyUrls;
     private Boolean isWriter;
     private Integer likes;
     private Boolean isLiked;
 
-    public static GetPostInfoResponseDto from(Post post, Boolean isWriter, Boolean liked) {
+    public static GetPostInfoResponseDto from(Post post, Boolean isWriter, Boolean liked, ImageVariant variant) {
         return GetPostInfoResponseDto.builder()
                 .id(post.getId())
                 .writerEmail(post.getWriter().getEmail())
@@ -30,10 +34,18 @@ public class GetPostInfoResponseDto {
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .content(post.getContent())
-                .fileUrls(post.getFileUrls())
+                .fileUrls(post.getFileUrls(variant))
                 .isWriter(isWriter)
-                .likes(post.getPostLikes().size())
+                .likes(post.getLikes())
                 .isLiked(liked)
                 .build();
     }
-}
\ No newline at end of file
+
+    // proxy 가 true 이면 서버의 이미지 캐시를 거치는 주소도 함께 반환한다.
+    public GetPostInfoResponseDto withProxyUrls(boolean proxy) {
+        if (proxy) {
+            this.proxyUrls = fileUrls.stream().map(ImageCache::proxyUrlOf).collect(Collectors.toList());
+        }
+        return this;
+    }
+}
@@ -15,14 +15,24 @@ public class GetSimplePostInfosResponseDto {
     private String writerEmail;
     private String title;
     private Boolean hasPostFile;
+    private Integer likes;
+    private Integer commentCount;
+    private Boolean isLiked;
 
     public static GetSimplePostInfosResponseDto from(Post post){
+        return from(post, null);
+    }
+
+    public static GetSimplePostInfosResponseDto from(Post post, Boolean isLiked){
         return GetSimplePostInfosResponseDto.builder()
                 .id(post.getId())
                 .writerEmail(post.getWriter().getEmail())
                 .createdAt(post.getCreatedAt())
                 .title(post.getTitle())
                 .hasPostFile(post.getHasPostFile())
+                .likes(post.getLikes())
+                .commentCount(post.getCommentCount())
+                .isLiked(isLiked)
                 .build();
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
+import java.util.List;
 
 @Data
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -23,6 +24,14 @@ public class WritePostRequestDto {
     @Schema(description = "글 내용", defaultValue = "빨리 가을이 왔으면 좋겠어요.")
     private String content;
 
+    @Size(max = 10, message = "파일은 10개까지 첨부할 수 있습니다.")
+    @Schema(description = "업로드 URL 로 올린 파일의 fileKey 목록. 생략할 수 있습니다.")
+    private List<String> fileKeys;
+
+    @Size(max = 10, message = "파일은 10개까지 첨부할 수 있습니다.")
+    @Schema(description = "이어 올리기가 끝난 업로드의 uploadId 목록. 생략할 수 있습니다.")
+    private List<Long> uploadIds;
+
     public Post toEntity(Member writer, Boolean hasPostFile){
         return Post.builder()
                 .writer(writer)
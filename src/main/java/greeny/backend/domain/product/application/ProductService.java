@@ -6,49 +6,42 @@ import greeny.backend.domain.product.entity.Product;
 import greeny.backend.domain.product.entity.ProductRepository;
 import greeny.backend.domain.wishlist.entity.ProductWishlist;
 import greeny.backend.exception.situation.product.ProductNotFoundException;
+import greeny.backend.infrastructure.cache.CountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ProductService {
 
+    private static final String COUNT_KEY_PREFIX = "product";
+
     private final ProductRepository productRepository;
+    private final CountCache countCache;
 
-    @Transactional
-    public Page<GetSimpleProductInfosResponseDto> getSimpleProductInfos(String keyword, Pageable pageable) {
-        if (StringUtils.hasText(keyword)) {
-            return productRepository.findProductsByNameContainingIgnoreCase(keyword,pageable)
-                    .map(product -> GetSimpleProductInfosResponseDto.from(product,false));
-        }
-        return productRepository.findAll(pageable)
-                .map(product -> GetSimpleProductInfosResponseDto.from(product,false));
+    @Transactional(readOnly = true)
+    public Slice<GetSimpleProductInfosResponseDto> getSimpleProductInfos(String keyword, boolean slice, Pageable pageable) {
+        return getProducts(keyword, slice, pageable).map(product -> GetSimpleProductInfosResponseDto.from(product,false));
     }
 
-    @Transactional
-    public Page<GetSimpleProductInfosResponseDto> getSimpleProductInfosWithAuthMember (
+    @Transactional(readOnly = true)
+    public Slice<GetSimpleProductInfosResponseDto> getSimpleProductInfosWithAuthMember (
             String keyword,
             List<ProductWishlist> productWishlists,
+            boolean slice,
             Pageable pageable
     ) {
-        if (StringUtils.hasText(keyword)){
-            return checkBookmarkedProduct(
-                    productRepository.findProductsByNameContainingIgnoreCase(keyword,pageable).getContent(),
-                    productWishlists,
-                    pageable
-            );
-        }
-        return checkBookmarkedProduct(productRepository.findAll(pageable).getContent(),productWishlists,pageable);
+        return checkBookmarkedProduct(getProducts(keyword, slice, pageable), productWishlists);
     }
 
     public GetProductInfoResponseDto getProductInfo(Long productId) {
@@ -70,31 +63,28 @@ public class ProductService {
         return productRepository.findById(productId).orElseThrow(ProductNotFoundException::new);
     }
 
-    private Page<GetSimpleProductInfosResponseDto> checkBookmarkedProduct(
-            List<Product> products,
-            List<ProductWishlist> productWishlists,
-            Pageable pageable
-    ) {
-        List<GetSimpleProductInfosResponseDto> simpleProducts = new ArrayList<>();
-        for (Product product : products) {
-            boolean isWishlist = false;
-            for (ProductWishlist productWishlist : productWishlists){
-                if (productWishlist.getProduct().getId().equals(product.getId())){
-                    isWishlist = true;
-                    simpleProducts.add(GetSimpleProductInfosResponseDto.from(product, isWishlist));
-                    productWishlists.remove(productWishlist);
-                    break;
-                }
-            }
-            if(!isWishlist) {
-                simpleProducts.add(GetSimpleProductInfosResponseDto.from(product,isWishlist));
-            }
+    // slice 이면 전체 개수를 세지 않고, 아니면 검색어별로 캐싱된 개수를 사용
+    private Slice<Product> getProducts(String keyword, boolean slice, Pageable pageable) {
+        Slice<Product> products = StringUtils.hasText(keyword)
+                ? productRepository.findSliceByNameContainingIgnoreCase(keyword, pageable)
+                : productRepository.findSliceBy(pageable);
+        if (slice) {
+            return products;
         }
-
-        return new PageImpl<>(
-                simpleProducts,
-                pageable,
-                simpleProducts.size()
+        return countCache.toPage(
+                products,
+                CountCache.key(COUNT_KEY_PREFIX, keyword),
+                () -> StringUtils.hasText(keyword) ? productRepository.countByNameContainingIgnoreCase(keyword) : productRepository.count()
         );
     }
-}
\ No newline at end of file
+
+    private Slice<GetSimpleProductInfosResponseDto> checkBookmarkedProduct(
+            Slice<Product> products,
+            List<ProductWishlist> productWishlists
+    ) {
+        Set<Long> wishlistProductIds = productWishlists.stream()
+                .map(productWishlist -> productWishlist.getProduct().getId())
+                .collect(Collectors.toSet());
+        return products.map(product -> GetSimpleProductInfosResponseDto.from(product, wishlistProductIds.contains(product.getId())));
+    }
+}
@@ -2,6 +2,7 @@ package greeny.backend.domain.product.entity;
 
 import greeny.backend.domain.AuditEntity;
 import greeny.backend.domain.review.entity.ProductReview;
+import greeny.backend.domain.review.entity.RatingSummary;
 import greeny.backend.domain.store.entity.Store;
 import greeny.backend.domain.wishlist.entity.ProductWishlist;
 import lombok.*;
@@ -19,6 +20,7 @@ import static javax.persistence.CascadeType.ALL;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
+@Table(indexes = @Index(name = "idx_product_rating_average", columnList = "rating_average, product_id"))
 public class Product extends AuditEntity {
 
     @Id
@@ -49,6 +51,10 @@ public class Product extends AuditEntity {
 
     private String detailUrl;
 
+    @Embedded
+    @Builder.Default
+    private RatingSummary rating = RatingSummary.empty();
+
     @Formula("(select count(1) from product_wishlist pw where pw.product_id = product_id)")
     private int wishlists;
 
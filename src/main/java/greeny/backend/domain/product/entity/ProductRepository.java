@@ -1,10 +1,14 @@
 package greeny.backend.domain.product.entity;
 
+import greeny.backend.domain.review.entity.RatingSummary;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -13,5 +17,19 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @NotNull
     Optional<Product> findById(@NotNull Long id);
 
-    Page<Product> findProductsByNameContainingIgnoreCase(String keyword, Pageable pageable);
+    Slice<Product> findSliceBy(Pageable pageable);
+
+    Slice<Product> findSliceByNameContainingIgnoreCase(String keyword, Pageable pageable);
+
+    long countByNameContainingIgnoreCase(String keyword);
+
+    @Modifying
+    @Query(value = "update Product set " + RatingSummary.ADD_REVIEW_SQL + " where product_id = :productId", nativeQuery = true)
+    int addRating(@Param("productId") Long productId, @Param("star") int star);
+
+    // 리뷰를 지우기 전에 실행하며, 작성자의 리뷰가 아니면 아무것도 바꾸지 않는다.
+    @Modifying
+    @Query(value = "update Product t join ProductReview r on r.product_id = t.product_id set " + RatingSummary.SUBTRACT_REVIEW_SQL +
+            " where r.product_review_id = :reviewId and r.reviewer_id = :reviewerId", nativeQuery = true)
+    int subtractRating(@Param("reviewId") Long reviewId, @Param("reviewerId") Long reviewerId);
 }
\ No newline at end of file
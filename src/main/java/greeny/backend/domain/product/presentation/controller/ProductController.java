@@ -28,20 +28,33 @@ public class ProductController {
 
     @GetMapping("/simple")
     @ResponseStatus(OK)
-    @Operation(summary = "Get simple product infos API", description = "Please get product store infos.")
-    public Response getSimpleProductInfos(@RequestParam(required = false) String keyword, @ParameterObject Pageable pageable) {
-        return success(SUCCESS_TO_GET_SIMPLE_PRODUCT_INFOS, productService.getSimpleProductInfos(keyword, pageable));
+    @Operation(summary = "Get simple product infos API", description = "Please get product store infos." +
+            " slice=true 이면 전체 개수를 세지 않고 다음 페이지 존재 여부만 반환하며, 그 외에는 totalElements 가 근사값일 수 있습니다 (exactCount)." +
+            " sort=rating.average,desc 로 평점순 정렬할 수 있습니다.")
+    public Response getSimpleProductInfos(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @ParameterObject Pageable pageable
+    ) {
+        return success(SUCCESS_TO_GET_SIMPLE_PRODUCT_INFOS, productService.getSimpleProductInfos(keyword, slice, pageable));
     }
 
     @GetMapping("/auth/simple")
     @ResponseStatus(OK)
-    @Operation(summary = "Get simple product infos with auth member API", description = "Please get product store infos.")
-    public Response getSimpleProductInfosWithAuthMember(@RequestParam(required = false) String keyword, @ParameterObject Pageable pageable) {
+    @Operation(summary = "Get simple product infos with auth member API", description = "Please get product store infos." +
+            " slice=true 이면 전체 개수를 세지 않고 다음 페이지 존재 여부만 반환하며, 그 외에는 totalElements 가 근사값일 수 있습니다 (exactCount)." +
+            " sort=rating.average,desc 로 평점순 정렬할 수 있습니다.")
+    public Response getSimpleProductInfosWithAuthMember(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @ParameterObject Pageable pageable
+    ) {
         return success(
                 SUCCESS_TO_GET_SIMPLE_PRODUCT_INFOS,
                 productService.getSimpleProductInfosWithAuthMember(
                         keyword,
                         wishlistService.getProductWishlists(memberService.getCurrentMember()),
+                        slice,
                         pageable
                 )
         );
@@ -2,6 +2,7 @@ package greeny.backend.domain.product.presentation.dto;
 
 import greeny.backend.domain.product.entity.Product;
 import lombok.*;
+import java.util.List;
 
 @Data
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -18,6 +19,9 @@ public class GetProductInfoResponseDto {
     private String contentUrl;
     private String phone;
     private Boolean isWishlist;
+    private Double ratingAverage;
+    private Integer ratingCount;
+    private List<Integer> starCounts;
 
     public static GetProductInfoResponseDto from(Product product, boolean isWishlist) {
         return GetProductInfoResponseDto.builder()
@@ -31,6 +35,9 @@ public class GetProductInfoResponseDto {
                 .contentUrl(product.getDetailUrl())
                 .phone(product.getStore().getPhone())
                 .isWishlist(isWishlist)
+                .ratingAverage(product.getRating().calculateAverage())
+                .ratingCount(product.getRating().getCount())
+                .starCounts(product.getRating().getStarCounts())
                 .build();
     }
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ public class GetSimpleProductInfosResponseDto {
     private String storeName;
     private Integer price;
     private boolean isWishlist;
+    private Double ratingAverage;
 
     public static GetSimpleProductInfosResponseDto from(Product product, boolean isWishlist) {
         return GetSimpleProductInfosResponseDto.builder()
@@ -23,6 +24,7 @@ public class GetSimpleProductInfosResponseDto {
                 .storeName(product.getStore().getName())
                 .price(product.getPrice())
                 .isWishlist(isWishlist)
+                .ratingAverage(product.getRating().calculateAverage())
                 .build();
     }
 }
\ No newline at end of file
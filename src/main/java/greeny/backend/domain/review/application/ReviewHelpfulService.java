@@ -0,0 +1,73 @@
+package greeny.backend.domain.review.application;
+
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.member.entity.Member;
+import greeny.backend.domain.review.entity.ProductReviewHelpfulRepository;
+import greeny.backend.domain.review.entity.ProductReviewRepository;
+import greeny.backend.domain.review.entity.StoreReviewHelpfulRepository;
+import greeny.backend.domain.review.entity.StoreReviewRepository;
+import greeny.backend.exception.situation.common.TypeDoesntExistException;
+import greeny.backend.exception.situation.review.ReviewNotFoundException;
+import greeny.backend.exception.situation.review.SelfHelpfulVoteNotAllowedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Optional;
+import static greeny.backend.domain.Eco.*;
+
+/**
+ * 리뷰 추천을 추가하거나 취소한다.
+ * 리뷰 행의 배타 잠금을 추천 수 갱신으로 먼저 잡은 뒤 insert ignore 로 추천을 추가해, 동시에 추천한 요청끼리 교착 상태에 빠지지 않게 한다.
+ * 이미 추천한 경우에는 추천을 삭제하고 미리 늘린 수까지 되돌린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewHelpfulService {
+
+    private final StoreReviewHelpfulRepository storeReviewHelpfulRepository;
+    private final ProductReviewHelpfulRepository productReviewHelpfulRepository;
+    private final StoreReviewRepository storeReviewRepository;
+    private final ProductReviewRepository productReviewRepository;
+
+    @Transactional
+    public void toggle(String type, Long reviewId, Member voter) {
+        if (valueOf(type) == STORE) {
+            toggleStoreReviewHelpful(reviewId, voter);
+        }
+        else if (valueOf(type) == PRODUCT) {
+            toggleProductReviewHelpful(reviewId, voter);
+        }
+        else {
+            throw new TypeDoesntExistException();
+        }
+    }
+
+    private void toggleStoreReviewHelpful(Long reviewId, Member voter) {
+        if (storeReviewRepository.increaseHelpfulCountUnlessReviewer(reviewId, voter.getId()) == 0) {
+            throw notVotableException(storeReviewRepository.findReviewerIdById(reviewId));
+        }
+        if (storeReviewHelpfulRepository.insertIgnore(reviewId, voter.getId(), AuditEntity.formatDateTime()) == 1) {
+            return;
+        }
+        int delta = storeReviewHelpfulRepository.deleteByReviewIdAndVoterId(reviewId, voter.getId()) == 1 ? -2 : -1;
+        storeReviewRepository.updateHelpfulCount(reviewId, delta);
+    }
+
+    private void toggleProductReviewHelpful(Long reviewId, Member voter) {
+        if (productReviewRepository.increaseHelpfulCountUnlessReviewer(reviewId, voter.getId()) == 0) {
+            throw notVotableException(productReviewRepository.findReviewerIdById(reviewId));
+        }
+        if (productReviewHelpfulRepository.insertIgnore(reviewId, voter.getId(), AuditEntity.formatDateTime()) == 1) {
+            return;
+        }
+        int delta = productReviewHelpfulRepository.deleteByReviewIdAndVoterId(reviewId, voter.getId()) == 1 ? -2 : -1;
+        productReviewRepository.updateHelpfulCount(reviewId, delta);
+    }
+
+    // 추천 수를 늘리지 못한 경우 리뷰 존재 여부로 원인을 구분
+    private RuntimeException notVotableException(Optional<Long> reviewerId) {
+        return reviewerId
+                .<RuntimeException>map(id -> new SelfHelpfulVoteNotAllowedException())
+                .orElseGet(ReviewNotFoundException::new);
+    }
+}
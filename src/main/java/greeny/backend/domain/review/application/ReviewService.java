@@ -1,12 +1,16 @@
 package greeny.backend.domain.review.application;
 
+import greeny.backend.domain.Eco;
+import greeny.backend.domain.file.application.FileDeletionService;
 import greeny.backend.domain.member.entity.Member;
 import greeny.backend.exception.situation.common.TypeDoesntExistException;
 import greeny.backend.exception.situation.member.MemberNotEqualsException;
 import greeny.backend.exception.situation.product.ProductNotFoundException;
 import greeny.backend.exception.situation.review.ReviewNotFoundException;
 import greeny.backend.exception.situation.store.StoreNotFoundException;
-import greeny.backend.infrastructure.aws.S3Service;
+import greeny.backend.infrastructure.image.ImageVariant;
+import greeny.backend.infrastructure.image.ImageVariantService;
+import greeny.backend.infrastructure.storage.FileService;
 import greeny.backend.domain.product.entity.Product;
 import greeny.backend.domain.product.entity.ProductRepository;
 import greeny.backend.domain.review.presentation.dto.GetReviewListResponseDto;
@@ -20,112 +24,267 @@ import greeny.backend.domain.review.entity.ProductReviewFile;
 import greeny.backend.domain.review.entity.StoreReviewFile;
 import greeny.backend.domain.review.entity.ProductReviewFileRepository;
 import greeny.backend.domain.review.entity.StoreReviewFileRepository;
+import greeny.backend.domain.review.entity.ProductReviewHelpfulRepository;
+import greeny.backend.domain.review.entity.StoreReviewHelpfulRepository;
 import greeny.backend.domain.store.entity.Store;
 import greeny.backend.domain.store.entity.StoreRepository;
+import greeny.backend.infrastructure.cache.CountCache;
+import greeny.backend.response.Cursor;
+import greeny.backend.response.CursorPage;
+import greeny.backend.response.SortedMerge;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.LongSupplier;
 import static greeny.backend.domain.Eco.*;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
 
+    private static final String COUNT_KEY_PREFIX = "review";
+    private static final String MAX_CREATED_AT = "9999-12-31 23:59";
+    private static final Comparator<GetReviewListResponseDto> TIMELINE_ORDER = Comparator
+            .comparing(GetReviewListResponseDto::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(GetReviewListResponseDto::getId, Comparator.reverseOrder())
+            .thenComparing(GetReviewListResponseDto::getType);
+
     private final ProductReviewRepository productReviewRepository;
     private final StoreReviewRepository storeReviewRepository;
     private final ProductReviewFileRepository productReviewFileRepository;
     private final StoreReviewFileRepository storeReviewFileRepository;
+    private final ProductReviewHelpfulRepository productReviewHelpfulRepository;
+    private final StoreReviewHelpfulRepository storeReviewHelpfulRepository;
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
-    private final S3Service s3Service;
+    private final FileService fileService;
+    private final ImageVariantService imageVariantService;
+    private final FileDeletionService fileDeletionService;
+    private final CountCache countCache;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public void writeStoreReview(Long id, WriteReviewRequestDto writeReviewRequestDto, List<MultipartFile> multipartFiles, Member member) {
-        Store store = storeRepository.findById(id).orElseThrow(StoreNotFoundException::new);
-        StoreReview storeReview = storeReviewRepository.save(writeReviewRequestDto.toStoreReviewEntity(member, store));
-        if (multipartFiles != null) {
-            uploadFiles(multipartFiles, storeReview);
+    // 파일은 클라이언트가 저장소에 직접 올리거나 이어 올리기로 올리고, 여기서는 올라간 파일을 확인한 뒤 파일 이름만 짧은 트랜잭션으로 저장한다.
+    public void writeStoreReview(Long id, WriteReviewRequestDto writeReviewRequestDto, Member member) {
+        if (!storeRepository.existsById(id)) {
+            throw new StoreNotFoundException();
         }
+        StoreReview writtenReview = fileService.attachUploadedFiles(
+                writeReviewRequestDto.getFileKeys(),
+                writeReviewRequestDto.getUploadIds(),
+                member.getId(),
+                fileUrls -> transactionTemplate.execute(status -> {
+                    Store store = storeRepository.getReferenceById(id);
+                    StoreReview storeReview = storeReviewRepository.save(writeReviewRequestDto.toStoreReviewEntity(member, store));
+                    addFiles(fileUrls, storeReview);
+                    storeRepository.addRating(id, writeReviewRequestDto.getStar());
+                    return storeReview;
+                })
+        );
+        imageVariantService.generateAsync(writtenReview.getStoreReviewFiles(), storeReviewFileRepository);
+        countCache.invalidate(countKeyPrefix(STORE));
     }
 
-    @Transactional
-    public void writeProductReview(Long id, WriteReviewRequestDto writeReviewRequestDto, List<MultipartFile> multipartFiles, Member member) {
-        Product product = productRepository.findById(id).orElseThrow(ProductNotFoundException::new);
-        ProductReview productReview = productReviewRepository.save(writeReviewRequestDto.toProductReviewEntity(member, product));
-        if (multipartFiles != null) {
-            uploadFiles(multipartFiles, productReview);
+    public void writeProductReview(Long id, WriteReviewRequestDto writeReviewRequestDto, Member member) {
+        if (!productRepository.existsById(id)) {
+            throw new ProductNotFoundException();
         }
+        ProductReview writtenReview = fileService.attachUploadedFiles(
+                writeReviewRequestDto.getFileKeys(),
+                writeReviewRequestDto.getUploadIds(),
+                member.getId(),
+                fileUrls -> transactionTemplate.execute(status -> {
+                    Product product = productRepository.getReferenceById(id);
+                    ProductReview productReview = productReviewRepository.save(writeReviewRequestDto.toProductReviewEntity(member, product));
+                    addFiles(fileUrls, productReview);
+                    productRepository.addRating(id, writeReviewRequestDto.getStar());
+                    return productReview;
+                })
+        );
+        imageVariantService.generateAsync(writtenReview.getProductReviewFiles(), productReviewFileRepository);
+        countCache.invalidate(countKeyPrefix(PRODUCT));
     }
 
     @Transactional(readOnly = true)
     public Page<GetReviewListResponseDto> getMemberReviewList(String type, Pageable pageable, Member member) {
         if (valueOf(type) == STORE) {
-            return storeReviewRepository.findAllByReviewer(pageable, member)
-                    .map(storeReview -> GetReviewListResponseDto.toDetailStoreDto(storeReview, type, storeReview.getStore().getId()));
+            return storeReviewRepository.findAllByReviewerId(member.getId(), pageable)
+                    .map(storeReview -> GetReviewListResponseDto.toDetailDto(storeReview, type));
         }
         else if (valueOf(type) == PRODUCT) {
-            return productReviewRepository.findAllByReviewer(pageable, member)
-                    .map(productReview -> GetReviewListResponseDto.toDetailProductDto(productReview, type, productReview.getProduct().getId()));
+            return productReviewRepository.findAllByReviewerId(member.getId(), pageable)
+                    .map(productReview -> GetReviewListResponseDto.toDetailDto(productReview, type));
         }
         throw new TypeDoesntExistException();
     }
 
     @Transactional(readOnly = true)
-    public Page<GetReviewListResponseDto> searchSimpleReviewInfos(String keyword, String type, Pageable pageable) {
-        if (!StringUtils.hasText(keyword))
-            return getAllSimpleReviewInfos(type, pageable);
-
+    public Slice<GetReviewListResponseDto> searchSimpleReviewInfos(String keyword, String type, boolean slice, Pageable pageable) {
+        boolean hasKeyword = StringUtils.hasText(keyword);
+        String searchKeyword = hasKeyword ? keyword : null;
         if (valueOf(type) == STORE) {
-            return storeReviewRepository.findAllByContentContainingIgnoreCase(keyword, pageable)
-                    .map(storeReview -> GetReviewListResponseDto.toDetailStoreDto(storeReview, type, storeReview.getStore().getId()));
+            return withCount(
+                    storeReviewRepository.findSliceByKeyword(searchKeyword, pageable),
+                    slice,
+                    CountCache.key(countKeyPrefix(STORE), "all", keyword),
+                    () -> hasKeyword ? storeReviewRepository.countByContentContainingIgnoreCase(keyword) : storeReviewRepository.count()
+            ).map(storeReview -> GetReviewListResponseDto.toDetailDto(storeReview, type));
         }
         else if (valueOf(type) == PRODUCT) {
-            return productReviewRepository.findAllByContentContainingIgnoreCase(keyword, pageable)
-                    .map(productReview -> GetReviewListResponseDto.toDetailProductDto(productReview, type, productReview.getProduct().getId()));
+            return withCount(
+                    productReviewRepository.findSliceByKeyword(searchKeyword, pageable),
+                    slice,
+                    CountCache.key(countKeyPrefix(PRODUCT), "all", keyword),
+                    () -> hasKeyword ? productReviewRepository.countByContentContainingIgnoreCase(keyword) : productReviewRepository.count()
+            ).map(productReview -> GetReviewListResponseDto.toDetailDto(productReview, type));
         }
         throw new TypeDoesntExistException();
     }
 
-    private Page<GetReviewListResponseDto> getAllSimpleReviewInfos(String type, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Slice<GetReviewListResponseDto> getSimpleReviewInfos(String type, Long id, boolean slice, Pageable pageable) {
         if (valueOf(type) == STORE) {
-            return storeReviewRepository.findAll(pageable)
-                    .map(storeReview -> GetReviewListResponseDto.toDetailStoreDto(storeReview, type, storeReview.getStore().getId()));
+            if (!storeRepository.existsById(id)) {
+                throw new StoreNotFoundException();
+            }
+            return withCount(
+                    storeReviewRepository.findSliceByStoreId(id, pageable),
+                    slice,
+                    CountCache.key(countKeyPrefix(STORE), "store", id),
+                    () -> storeReviewRepository.countByStoreId(id)
+            ).map(GetReviewListResponseDto::from);
         }
         else if (valueOf(type) == PRODUCT) {
-            return productReviewRepository.findAll(pageable)
-                    .map(productReview -> GetReviewListResponseDto.toDetailProductDto(productReview, type, productReview.getProduct().getId()));
+            if (!productRepository.existsById(id)) {
+                throw new ProductNotFoundException();
+            }
+            return withCount(
+                    productReviewRepository.findSliceByProductId(id, pageable),
+                    slice,
+                    CountCache.key(countKeyPrefix(PRODUCT), "product", id),
+                    () -> productReviewRepository.countByProductId(id)
+            ).map(GetReviewListResponseDto::from);
+        }
+        else {
+            throw new TypeDoesntExistException();
+        }
+    }
+
+    // slice 이면 전체 개수를 세지 않고, 아니면 조회 조건별로 캐싱된 개수를 사용
+    private <T> Slice<T> withCount(Slice<T> reviews, boolean slice, String countKey, LongSupplier counter) {
+        return slice ? reviews : countCache.toPage(reviews, countKey, counter);
+    }
+
+    private String countKeyPrefix(Eco type) {
+        return COUNT_KEY_PREFIX + ":" + type.name();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<GetReviewListResponseDto> getSimpleReviewInfosByCursor(String type, Long id, String cursor, Pageable pageable) {
+        Cursor.validateIdSort(pageable.getSort());
+        int size = pageable.getPageSize();
+        Long cursorId = Cursor.decode(cursor, 1).getLong(0, Long.MAX_VALUE);
+        if (valueOf(type) == STORE) {
+            if (!storeRepository.existsById(id)) {
+                throw new StoreNotFoundException();
+            }
+            return CursorPage.of(
+                    storeReviewRepository.findStoreReviewsByStoreAndCursor(id, cursorId, PageRequest.of(0, size + 1)),
+                    size,
+                    storeReview -> Cursor.encode(storeReview.getId()),
+                    GetReviewListResponseDto::from
+            );
+        }
+        else if (valueOf(type) == PRODUCT) {
+            if (!productRepository.existsById(id)) {
+                throw new ProductNotFoundException();
+            }
+            return CursorPage.of(
+                    productReviewRepository.findProductReviewsByProductAndCursor(id, cursorId, PageRequest.of(0, size + 1)),
+                    size,
+                    productReview -> Cursor.encode(productReview.getId()),
+                    GetReviewListResponseDto::from
+            );
         }
         throw new TypeDoesntExistException();
     }
 
     @Transactional(readOnly = true)
-    public Page<GetReviewListResponseDto> getSimpleReviewInfos(String type, Long id, Pageable pageable) {
+    public CursorPage<GetReviewListResponseDto> searchSimpleReviewInfosByCursor(String keyword, String type, String cursor, Pageable pageable) {
+        Cursor.validateIdSort(pageable.getSort());
+        String searchKeyword = StringUtils.hasText(keyword) ? keyword : null;
+        int size = pageable.getPageSize();
+        Long cursorId = Cursor.decode(cursor, 1).getLong(0, Long.MAX_VALUE);
         if (valueOf(type) == STORE) {
-            Store store = storeRepository.findById(id).orElseThrow(StoreNotFoundException::new);
-            Page<StoreReview> pages = storeReviewRepository.findStoreReviewsByStore(pageable, store);
-            return pages.map(GetReviewListResponseDto::from);
+            return CursorPage.of(
+                    storeReviewRepository.findAllByCursor(searchKeyword, cursorId, PageRequest.of(0, size + 1)),
+                    size,
+                    storeReview -> Cursor.encode(storeReview.getId()),
+                    storeReview -> GetReviewListResponseDto.toDetailDto(storeReview, type)
+            );
         }
         else if (valueOf(type) == PRODUCT) {
-            Product product = productRepository.findById(id).orElseThrow(ProductNotFoundException::new);
-            Page<ProductReview> pages = productReviewRepository.findProductReviewsByProduct(pageable, product);
-            return pages.map(GetReviewListResponseDto::from);
+            return CursorPage.of(
+                    productReviewRepository.findAllByCursor(searchKeyword, cursorId, PageRequest.of(0, size + 1)),
+                    size,
+                    productReview -> Cursor.encode(productReview.getId()),
+                    productReview -> GetReviewListResponseDto.toDetailDto(productReview, type)
+            );
         }
-        else {
-            throw new TypeDoesntExistException();
+        throw new TypeDoesntExistException();
+    }
+
+    /**
+     * 스토어 리뷰와 제품 리뷰를 (createdAt, id) 최신순으로 합쳐 조회한다.
+     * 커서에 두 테이블의 마지막 위치를 따로 담고, 각 테이블에서 size + 1 개만 읽어 k-way merge 한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<GetReviewListResponseDto> getReviewTimeline(String cursor, Pageable pageable) {
+        int size = pageable.getPageSize();
+        Cursor decoded = Cursor.decode(cursor, 4);
+        String storeCreatedAt = decoded.getString(0, MAX_CREATED_AT);
+        Long storeReviewId = decoded.getLong(1, Long.MAX_VALUE);
+        String productCreatedAt = decoded.getString(2, MAX_CREATED_AT);
+        Long productReviewId = decoded.getLong(3, Long.MAX_VALUE);
+
+        List<GetReviewListResponseDto> storeReviews = new ArrayList<>();
+        storeReviewRepository.findTimelineByCursor(storeCreatedAt, storeReviewId, PageRequest.of(0, size + 1))
+                .forEach(storeReview -> storeReviews.add(GetReviewListResponseDto.toDetailDto(storeReview, STORE.name())));
+        List<GetReviewListResponseDto> productReviews = new ArrayList<>();
+        productReviewRepository.findTimelineByCursor(productCreatedAt, productReviewId, PageRequest.of(0, size + 1))
+                .forEach(productReview -> productReviews.add(GetReviewListResponseDto.toDetailDto(productReview, PRODUCT.name())));
+
+        List<GetReviewListResponseDto> merged = SortedMerge.merge(List.of(storeReviews, productReviews), TIMELINE_ORDER, size + 1);
+        if (merged.size() <= size) {
+            return CursorPage.of(merged, size, null);
         }
+        List<GetReviewListResponseDto> content = merged.subList(0, size);
+        // 이번 페이지에 나오지 않은 테이블은 이전 위치를 그대로 넘긴다.
+        for (GetReviewListResponseDto review : content) {
+            if (STORE.name().equals(review.getType())) {
+                storeCreatedAt = review.getCreatedAt();
+                storeReviewId = review.getId();
+            } else {
+                productCreatedAt = review.getCreatedAt();
+                productReviewId = review.getId();
+            }
+        }
+        return CursorPage.of(content, size, Cursor.encode(storeCreatedAt, storeReviewId, productCreatedAt, productReviewId));
     }
 
     @Transactional(readOnly = true)
-    public GetReviewInfoResponseDto getStoreReviewInfo(Long id) {
+    public GetReviewInfoResponseDto getStoreReviewInfo(Long id, ImageVariant size) {
         StoreReview storeReview = storeReviewRepository.findById(id).orElseThrow(ReviewNotFoundException::new);
-        List<String> urls = getStoreReviewImgUrls(storeReview);
+        List<String> urls = getStoreReviewImgUrls(storeReview, size);
         return buildReviewInfoResponseDto(
                 storeReview.getReviewer().getEmail(),
                 storeReview.getCreatedAt(),
@@ -137,9 +296,9 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public GetReviewInfoResponseDto getProductReviewInfo(Long id) {
+    public GetReviewInfoResponseDto getProductReviewInfo(Long id, ImageVariant size) {
         ProductReview productReview = productReviewRepository.findById(id).orElseThrow(ReviewNotFoundException::new);
-        List<String> urls = getProductReviewImgUrls(productReview);
+        List<String> urls = getProductReviewImgUrls(productReview, size);
         return buildReviewInfoResponseDto(
                 productReview.getReviewer().getEmail(),
                 productReview.getCreatedAt(),
@@ -151,10 +310,10 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public GetReviewInfoResponseDto getStoreReviewInfoWithAuth(Long id, Member member) {
+    public GetReviewInfoResponseDto getStoreReviewInfoWithAuth(Long id, ImageVariant size, Member member) {
         StoreReview storeReview = storeReviewRepository.findById(id).orElseThrow(ReviewNotFoundException::new);
         boolean isWriter = storeReview.getReviewer().getEmail().equals(member.getEmail());
-        List<String> urls = getStoreReviewImgUrls(storeReview);
+        List<String> urls = getStoreReviewImgUrls(storeReview, size);
         return buildReviewInfoResponseDto(
                 storeReview.getReviewer().getEmail(),
                 storeReview.getCreatedAt(),
@@ -166,10 +325,10 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
-    public GetReviewInfoResponseDto getProductReviewInfoWithAuth(Long id, Member member) {
+    public GetReviewInfoResponseDto getProductReviewInfoWithAuth(Long id, ImageVariant size, Member member) {
         ProductReview productReview = productReviewRepository.findById(id).orElseThrow(ReviewNotFoundException::new);
         boolean isWriter = productReview.getReviewer().getEmail().equals(member.getEmail());
-        List<String> urls = getProductReviewImgUrls(productReview);
+        List<String> urls = getProductReviewImgUrls(productReview, size);
         return buildReviewInfoResponseDto(
                 productReview.getReviewer().getEmail(),
                 productReview.getCreatedAt(),
@@ -182,36 +341,31 @@ public class ReviewService {
 
     @Transactional
     public void deleteStoreReview(Long reviewId, Member currentMember) {
-        StoreReview storeReview = storeReviewRepository.findById(reviewId).orElseThrow(ReviewNotFoundException::new);
-        if (!storeReview.getReviewer().getEmail().equals(currentMember.getEmail())) {
-            throw new MemberNotEqualsException();
+        List<String> fileUrls = storeReviewFileRepository.findFileUrlsByReviewIdAndReviewerId(reviewId, currentMember.getId());
+        storeReviewFileRepository.deleteAllByReviewIdAndReviewerId(reviewId, currentMember.getId());
+        storeReviewHelpfulRepository.deleteAllByReviewIdAndReviewerId(reviewId, currentMember.getId());
+        // 리뷰를 지우지 못하면 예외로 롤백되므로 별점 집계도 되돌아간다.
+        storeRepository.subtractRating(reviewId, currentMember.getId());
+        if (storeReviewRepository.deleteByIdAndReviewerId(reviewId, currentMember.getId()) == 0) {
+            throw storeReviewRepository.existsById(reviewId) ? new MemberNotEqualsException() : new ReviewNotFoundException();
         }
 
-        List<StoreReviewFile> reviewImages = storeReviewFileRepository.findByStoreReviewId(reviewId);
-        if (reviewImages != null) {
-            for (StoreReviewFile img : reviewImages) {
-                s3Service.deleteFile(img.getFileUrl());
-            }
-            storeReviewFileRepository.deleteAll(reviewImages);
-        }
-        storeReviewRepository.deleteById(reviewId);
+        fileDeletionService.enqueue(fileUrls);
+        countCache.invalidate(countKeyPrefix(STORE));
     }
 
     @Transactional
     public void deleteProductReview(Long reviewId, Member currentMember) {
-        ProductReview productReview = productReviewRepository.findById(reviewId).orElseThrow(ReviewNotFoundException::new);
-        if (!productReview.getReviewer().getId().equals(currentMember.getId())) {
-            throw new MemberNotEqualsException();
+        List<String> fileUrls = productReviewFileRepository.findFileUrlsByReviewIdAndReviewerId(reviewId, currentMember.getId());
+        productReviewFileRepository.deleteAllByReviewIdAndReviewerId(reviewId, currentMember.getId());
+        productReviewHelpfulRepository.deleteAllByReviewIdAndReviewerId(reviewId, currentMember.getId());
+        productRepository.subtractRating(reviewId, currentMember.getId());
+        if (productReviewRepository.deleteByIdAndReviewerId(reviewId, currentMember.getId()) == 0) {
+            throw productReviewRepository.existsById(reviewId) ? new MemberNotEqualsException() : new ReviewNotFoundException();
         }
 
-        List<ProductReviewFile> reviewImages = productReviewFileRepository.findByProductReviewId(reviewId);
-        if (reviewImages != null) {
-            for (ProductReviewFile img : reviewImages) {
-                s3Service.deleteFile(img.getFileUrl());
-            }
-            productReviewFileRepository.deleteAll(reviewImages);
-        }
-        productReviewRepository.deleteById(reviewId);
+        fileDeletionService.enqueue(fileUrls);
+        countCache.invalidate(countKeyPrefix(PRODUCT));
     }
 
     public GetReviewInfoResponseDto buildReviewInfoResponseDto(
@@ -232,41 +386,37 @@ public class ReviewService {
                 .build();
     }
 
-    @Transactional
-    public void uploadFiles(List<MultipartFile> multipartFiles, StoreReview storeReview) {
-        for (MultipartFile file : multipartFiles) {
-            StoreReviewFile storeReviewFile = StoreReviewFile.getEntity(storeReview, s3Service.uploadFile(file));
-            storeReview.getStoreReviewFiles().add(storeReviewFile);
+    private void addFiles(List<String> fileUrls, StoreReview storeReview) {
+        for (String fileUrl : fileUrls) {
+            storeReview.getStoreReviewFiles().add(StoreReviewFile.getEntity(storeReview, fileUrl));
         }
     }
 
-    @Transactional
-    public void uploadFiles(List<MultipartFile> multipartFiles, ProductReview productReview) {
-        for (MultipartFile file : multipartFiles) {
-            ProductReviewFile productReviewFile = ProductReviewFile.getEntity(productReview, s3Service.uploadFile(file));
-            productReview.getProductReviewFiles().add(productReviewFile);
+    private void addFiles(List<String> fileUrls, ProductReview productReview) {
+        for (String fileUrl : fileUrls) {
+            productReview.getProductReviewFiles().add(ProductReviewFile.getEntity(productReview, fileUrl));
         }
     }
 
     @NotNull
-    private List<String> getProductReviewImgUrls(ProductReview productReview) {
+    private List<String> getProductReviewImgUrls(ProductReview productReview, ImageVariant size) {
         List<String> urls = new ArrayList<>();
         List<ProductReviewFile> productReviewFiles = productReview.getProductReviewFiles();
         if (productReviewFiles != null) {
             for (ProductReviewFile image : productReview.getProductReviewFiles()) {
-                urls.add(image.getFileUrl());
+                urls.add(image.getFileUrl(size));
             }
         }
         return urls;
     }
 
     @NotNull
-    private List<String> getStoreReviewImgUrls(StoreReview storeReview) {
+    private List<String> getStoreReviewImgUrls(StoreReview storeReview, ImageVariant size) {
         List<String> urls = new ArrayList<>();
         List<StoreReviewFile> storeReviewFiles = storeReview.getStoreReviewFiles();
         if (storeReviewFiles != null) {
             for (StoreReviewFile image : storeReview.getStoreReviewFiles()) {
-                urls.add(image.getFileUrl());
+                urls.add(image.getFileUrl(size));
             }
         }
         return urls;
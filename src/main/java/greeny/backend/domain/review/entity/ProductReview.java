@@ -14,6 +14,11 @@ import static javax.persistence.FetchType.*;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_product_review_product", columnList = "product_id, product_review_id"),
+        @Index(name = "idx_product_review_created_at", columnList = "createdAt, product_review_id"),
+        @Index(name = "idx_product_review_helpful", columnList = "product_id, helpful_count, product_review_id")
+})
 public class ProductReview extends AuditEntity {
 
     @Id
@@ -38,4 +43,8 @@ public class ProductReview extends AuditEntity {
 
     @Column(nullable = false)
     private String content;
+
+    @Column(name = "helpful_count", nullable = false)
+    @Builder.Default
+    private int helpfulCount = 0;
 }
\ No newline at end of file
@@ -1,8 +1,19 @@
 package greeny.backend.domain.review.entity;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import greeny.backend.domain.file.entity.VariantFileRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
-public interface ProductReviewFileRepository extends JpaRepository<ProductReviewFile, Long> {
+public interface ProductReviewFileRepository extends VariantFileRepository<ProductReviewFile> {
     List<ProductReviewFile> findByProductReviewId(Long reviewId);
+
+    @Query("select f.fileUrl from ProductReviewFile f where f.productReview.id = :reviewId and f.productReview.reviewer.id = :reviewerId")
+    List<String> findFileUrlsByReviewIdAndReviewerId(@Param("reviewId") Long reviewId, @Param("reviewerId") Long reviewerId);
+
+    @Modifying
+    @Query("delete from ProductReviewFile f where f.productReview.id in " +
+            "(select r.id from ProductReview r where r.id = :reviewId and r.reviewer.id = :reviewerId)")
+    int deleteAllByReviewIdAndReviewerId(@Param("reviewId") Long reviewId, @Param("reviewerId") Long reviewerId);
 }
\ No newline at end of file
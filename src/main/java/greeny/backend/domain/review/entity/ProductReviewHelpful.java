@@ -0,0 +1,28 @@
+package greeny.backend.domain.review.entity;
+
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.member.entity.Member;
+import lombok.*;
+import javax.persistence.*;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "unique_product_review_voter", columnNames = {"product_review_id", "voter_id"}))
+public class ProductReviewHelpful extends AuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_review_helpful_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_review_id", nullable = false)
+    private ProductReview productReview;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "voter_id", nullable = false)
+    private Member voter;
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package greeny.backend.domain.review.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductReviewHelpfulRepository extends JpaRepository<ProductReviewHelpful, Long> {
+
+    // 리뷰 행을 먼저 잠근 뒤 호출하며, 이미 추천한 경우 unique_product_review_voter 에 의해 무시된다.
+    @Modifying
+    @Query(value = "insert ignore into ProductReviewHelpful (product_review_id, voter_id, createdAt, updatedAt) values (:reviewId, :voterId, :now, :now)",
+            nativeQuery = true)
+    int insertIgnore(@Param("reviewId") Long reviewId, @Param("voterId") Long voterId, @Param("now") String now);
+
+    @Modifying
+    @Query("delete from ProductReviewHelpful h where h.productReview.id = :reviewId and h.voter.id = :voterId")
+    int deleteByReviewIdAndVoterId(@Param("reviewId") Long reviewId, @Param("voterId") Long voterId);
+
+    @Modifying
+    @Query("delete from ProductReviewHelpful h where h.productReview.id in " +
+            "(select r.id from ProductReview r where r.id = :reviewId and r.reviewer.id = :reviewerId)")
+    int deleteAllByReviewIdAndReviewerId(@Param("reviewId") Long reviewId, @Param("reviewerId") Long reviewerId);
+}
@@ -1,24 +1,61 @@
 package greeny.backend.domain.review.entity;
 
-import greeny.backend.domain.member.entity.Member;
-import greeny.backend.domain.product.entity.Product;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+import java.util.Optional;
 
 public interface ProductReviewRepository extends JpaRepository<ProductReview, Long> {
 
-    Page<ProductReview> findProductReviewsByProduct(Pageable pageable, Product product);
+    String LIST_SELECT = "select pr.id as id, pr.createdAt as createdAt, m.email as writerEmail, pr.star as star, pr.content as content, " +
+            "case when exists (select f.id from ProductReviewFile f where f.productReview = pr) then true else false end as existsFile, " +
+            "pr.product.id as idByType, pr.helpfulCount as helpfulCount " +
+            "from ProductReview pr join pr.reviewer m ";
 
-    @EntityGraph(attributePaths = "product")
-    Page<ProductReview> findAllByReviewer(Pageable pageable, Member member);
+    @Query(LIST_SELECT + "where pr.product.id = :productId and pr.id < :id order by pr.id desc")
+    List<ReviewListProjection> findProductReviewsByProductAndCursor(@Param("productId") Long productId, @Param("id") Long id, Pageable pageable);
 
-    @EntityGraph(attributePaths = "product")
-    Page<ProductReview> findAllByContentContainingIgnoreCase(String content, Pageable pageable);
+    @Query(LIST_SELECT + "where pr.id < :id and (:keyword is null or lower(pr.content) like lower(concat('%', :keyword, '%'))) " +
+            "order by pr.id desc")
+    List<ReviewListProjection> findAllByCursor(@Param("keyword") String keyword, @Param("id") Long id, Pageable pageable);
 
-    @EntityGraph(attributePaths = "product")
-    @NotNull
-    Page<ProductReview> findAll(@NotNull Pageable pageable);
+    // (createdAt, id) 가 커서보다 앞선 리뷰를 최신순으로 조회한다.
+    @Query(LIST_SELECT + "where pr.createdAt < :createdAt or (pr.createdAt = :createdAt and pr.id < :id) " +
+            "order by pr.createdAt desc, pr.id desc")
+    List<ReviewListProjection> findTimelineByCursor(@Param("createdAt") String createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(value = LIST_SELECT + "where m.id = :reviewerId",
+            countQuery = "select count(pr) from ProductReview pr where pr.reviewer.id = :reviewerId")
+    Page<ReviewListProjection> findAllByReviewerId(@Param("reviewerId") Long reviewerId, Pageable pageable);
+
+    @Query("select r.reviewer.id from ProductReview r where r.id = :id")
+    Optional<Long> findReviewerIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update ProductReview r set r.helpfulCount = r.helpfulCount + :delta where r.id = :id")
+    int updateHelpfulCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 작성자가 아닌 경우에만 추천 수를 늘리며, 리뷰 행의 배타 잠금을 트랜잭션 끝까지 유지한다.
+    @Modifying
+    @Query("update ProductReview r set r.helpfulCount = r.helpfulCount + 1 where r.id = :id and r.reviewer.id <> :voterId")
+    int increaseHelpfulCountUnlessReviewer(@Param("id") Long id, @Param("voterId") Long voterId);
+
+    @Modifying
+    @Query("delete from ProductReview r where r.id = :id and r.reviewer.id = :reviewerId")
+    int deleteByIdAndReviewerId(@Param("id") Long id, @Param("reviewerId") Long reviewerId);
+
+    @Query(LIST_SELECT + "where pr.product.id = :productId")
+    Slice<ReviewListProjection> findSliceByProductId(@Param("productId") Long productId, Pageable pageable);
+
+    long countByProductId(Long productId);
+
+    @Query(LIST_SELECT + "where :keyword is null or lower(pr.content) like lower(concat('%', :keyword, '%'))")
+    Slice<ReviewListProjection> findSliceByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    long countByContentContainingIgnoreCase(String content);
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package greeny.backend.domain.review.entity;
+
+import lombok.*;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.util.List;
+
+/**
+ * 스토어/제품에 달린 리뷰 별점의 합계, 개수, 별점별 개수.
+ * 리뷰를 쓰고 지울 때 같은 트랜잭션에서 native update 로 더하고 빼므로 조회할 때 리뷰 테이블을 세지 않는다.
+ */
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class RatingSummary {
+
+    // :star 점 리뷰 하나를 더하는 set 절
+    public static final String ADD_REVIEW_SQL = "rating_sum = rating_sum + :star, rating_count = rating_count + 1, " +
+            "star1_count = star1_count + (:star = 1), star2_count = star2_count + (:star = 2), star3_count = star3_count + (:star = 3), " +
+            "star4_count = star4_count + (:star = 4), star5_count = star5_count + (:star = 5)";
+
+    // 대상 테이블 t 에서 리뷰 테이블 r 의 리뷰 하나를 빼는 set 절
+    public static final String SUBTRACT_REVIEW_SQL = "t.rating_sum = t.rating_sum - r.star, t.rating_count = t.rating_count - 1, " +
+            "t.star1_count = t.star1_count - (r.star = 1), t.star2_count = t.star2_count - (r.star = 2), t.star3_count = t.star3_count - (r.star = 3), " +
+            "t.star4_count = t.star4_count - (r.star = 4), t.star5_count = t.star5_count - (r.star = 5)";
+
+    @Column(name = "rating_sum", nullable = false)
+    private long sum;
+
+    @Column(name = "rating_count", nullable = false)
+    private int count;
+
+    @Column(name = "star1_count", nullable = false)
+    private int star1;
+
+    @Column(name = "star2_count", nullable = false)
+    private int star2;
+
+    @Column(name = "star3_count", nullable = false)
+    private int star3;
+
+    @Column(name = "star4_count", nullable = false)
+    private int star4;
+
+    @Column(name = "star5_count", nullable = false)
+    private int star5;
+
+    // 평점순 정렬과 인덱스를 위해 DB 가 계산해 저장하는 평균. 응답에는 calculateAverage 를 사용한다.
+    @Column(name = "rating_average", insertable = false, updatable = false,
+            columnDefinition = "double generated always as (if(rating_count = 0, 0, rating_sum / rating_count)) stored")
+    private Double average;
+
+    public static RatingSummary empty() {
+        return new RatingSummary();
+    }
+
+    // 소수점 첫째 자리까지 반올림한 평균
+    public double calculateAverage() {
+        return count == 0 ? 0 : Math.round((double) sum / count * 10) / 10.0;
+    }
+
+    // 1점부터 5점까지 순서대로
+    public List<Integer> getStarCounts() {
+        return List.of(star1, star2, star3, star4, star5);
+    }
+}
@@ -0,0 +1,24 @@
+package greeny.backend.domain.review.entity;
+
+/**
+ * 리뷰 목록 한 행. 작성자 이메일과 파일 존재 여부까지 한 번의 쿼리로 조회한다.
+ */
+public interface ReviewListProjection {
+
+    Long getId();
+
+    String getCreatedAt();
+
+    String getWriterEmail();
+
+    int getStar();
+
+    String getContent();
+
+    boolean getExistsFile();
+
+    // 스토어 리뷰이면 스토어 id, 제품 리뷰이면 제품 id
+    Long getIdByType();
+
+    int getHelpfulCount();
+}
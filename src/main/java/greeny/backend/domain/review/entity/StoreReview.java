@@ -14,6 +14,11 @@ import static javax.persistence.FetchType.*;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_store_review_store", columnList = "store_id, store_review_id"),
+        @Index(name = "idx_store_review_created_at", columnList = "createdAt, store_review_id"),
+        @Index(name = "idx_store_review_helpful", columnList = "store_id, helpful_count, store_review_id")
+})
 public class StoreReview extends AuditEntity {
 
     @Id
@@ -38,4 +43,8 @@ public class StoreReview extends AuditEntity {
 
     @Column(nullable = false)
     private String content;
+
+    @Column(name = "helpful_count", nullable = false)
+    @Builder.Default
+    private int helpfulCount = 0;
 }
\ No newline at end of file
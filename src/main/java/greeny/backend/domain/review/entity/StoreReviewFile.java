@@ -1,6 +1,6 @@
 package greeny.backend.domain.review.entity;
 
-import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.file.entity.VariantFile;
 import lombok.*;
 import javax.persistence.*;
 
@@ -9,7 +9,12 @@ import javax.persistence.*;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
-public class StoreReviewFile extends AuditEntity {
+@Table(indexes = {
+        @Index(name = "idx_store_review_file_url", columnList = "fileUrl"),
+        @Index(name = "idx_store_review_file_thumbnail_url", columnList = "thumbnailUrl"),
+        @Index(name = "idx_store_review_file_medium_url", columnList = "mediumUrl")
+})
+public class StoreReviewFile extends VariantFile {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,8 +1,19 @@
 package greeny.backend.domain.review.entity;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import greeny.backend.domain.file.entity.VariantFileRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
-public interface StoreReviewFileRepository extends JpaRepository<StoreReviewFile, Long> {
+public interface StoreReviewFileRepository extends VariantFileRepository<StoreReviewFile> {
     List<StoreReviewFile> findByStoreReviewId(Long reviewId);
+
+    @Query("select f.fileUrl from StoreReviewFile f where f.storeReview.id = :reviewId and f.storeReview.reviewer.id = :reviewerId")
+    List<String> findFileUrlsByReviewIdAndReviewerId(@Param("reviewId") Long reviewId, @Param("reviewerId") Long reviewerId);
+
+    @Modifying
+    @Query("delete from StoreReviewFile f where f.storeReview.id in " +
+            "(select r.id from StoreReview r where r.id = :reviewId and r.reviewer.id = :reviewerId)")
+    int deleteAllByReviewIdAndReviewerId(@Param("reviewId") Long reviewId, @Param("reviewerId") Long reviewerId);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package greeny.backend.domain.review.entity;
+
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.member.entity.Member;
+import lombok.*;
+import javax.persistence.*;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "unique_store_review_voter", columnNames = {"store_review_id", "voter_id"}))
+public class StoreReviewHelpful extends AuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "store_review_helpful_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_review_id", nullable = false)
+    private StoreReview storeReview;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "voter_id", nullable = false)
+    private Member voter;
+}
\ No newline at end of file
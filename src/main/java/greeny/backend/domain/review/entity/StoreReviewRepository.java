@@ -1,24 +1,61 @@
 package greeny.backend.domain.review.entity;
 
-import greeny.backend.domain.member.entity.Member;
-import greeny.backend.domain.store.entity.Store;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+import java.util.Optional;
 
 public interface StoreReviewRepository extends JpaRepository<StoreReview, Long> {
 
-    Page<StoreReview> findStoreReviewsByStore(Pageable pageable, Store store);
+    String LIST_SELECT = "select sr.id as id, sr.createdAt as createdAt, m.email as writerEmail, sr.star as star, sr.content as content, " +
+            "case when exists (select f.id from StoreReviewFile f where f.storeReview = sr) then true else false end as existsFile, " +
+            "sr.store.id as idByType, sr.helpfulCount as helpfulCount " +
+            "from StoreReview sr join sr.reviewer m ";
 
-    @EntityGraph(attributePaths = "store")
-    Page<StoreReview> findAllByReviewer(Pageable pageable, Member member);
+    @Query(LIST_SELECT + "where sr.store.id = :storeId and sr.id < :id order by sr.id desc")
+    List<ReviewListProjection> findStoreReviewsByStoreAndCursor(@Param("storeId") Long storeId, @Param("id") Long id, Pageable pageable);
 
-    @EntityGraph(attributePaths = "store")
-    Page<StoreReview> findAllByContentContainingIgnoreCase(String content, Pageable pageable);
+    @Query(LIST_SELECT + "where sr.id < :id and (:keyword is null or lower(sr.content) like lower(concat('%', :keyword, '%'))) " +
+            "order by sr.id desc")
+    List<ReviewListProjection> findAllByCursor(@Param("keyword") String keyword, @Param("id") Long id, Pageable pageable);
 
-    @EntityGraph(attributePaths = "store")
-    @NotNull
-    Page<StoreReview> findAll(@NotNull Pageable pageable);
+    // (createdAt, id) 가 커서보다 앞선 리뷰를 최신순으로 조회한다.
+    @Query(LIST_SELECT + "where sr.createdAt < :createdAt or (sr.createdAt = :createdAt and sr.id < :id) " +
+            "order by sr.createdAt desc, sr.id desc")
+    List<ReviewListProjection> findTimelineByCursor(@Param("createdAt") String createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(value = LIST_SELECT + "where m.id = :reviewerId",
+            countQuery = "select count(sr) from StoreReview sr where sr.reviewer.id = :reviewerId")
+    Page<ReviewListProjection> findAllByReviewerId(@Param("reviewerId") Long reviewerId, Pageable pageable);
+
+    @Query("select r.reviewer.id from StoreReview r where r.id = :id")
+    Optional<Long> findReviewerIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update StoreReview r set r.helpfulCount = r.helpfulCount + :delta where r.id = :id")
+    int updateHelpfulCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 작성자가 아닌 경우에만 추천 수를 늘리며, 리뷰 행의 배타 잠금을 트랜잭션 끝까지 유지한다.
+    @Modifying
+    @Query("update StoreReview r set r.helpfulCount = r.helpfulCount + 1 where r.id = :id and r.reviewer.id <> :voterId")
+    int increaseHelpfulCountUnlessReviewer(@Param("id") Long id, @Param("voterId") Long voterId);
+
+    @Modifying
+    @Query("delete from StoreReview r where r.id = :id and r.reviewer.id = :reviewerId")
+    int deleteByIdAndReviewerId(@Param("id") Long id, @Param("reviewerId") Long reviewerId);
+
+    @Query(LIST_SELECT + "where sr.store.id = :storeId")
+    Slice<ReviewListProjection> findSliceByStoreId(@Param("storeId") Long storeId, Pageable pageable);
+
+    long countByStoreId(Long storeId);
+
+    @Query(LIST_SELECT + "where :keyword is null or lower(sr.content) like lower(concat('%', :keyword, '%'))")
+    Slice<ReviewListProjection> findSliceByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    long countByContentContainingIgnoreCase(String content);
 }
\ No newline at end of file
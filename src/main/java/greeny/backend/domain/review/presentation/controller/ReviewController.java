@@ -5,6 +5,8 @@ import greeny.backend.domain.member.entity.Member;
 import greeny.backend.domain.review.presentation.dto.WriteReviewRequestDto;
 import greeny.backend.domain.review.application.ReviewService;
 import greeny.backend.exception.situation.common.TypeDoesntExistException;
+import greeny.backend.infrastructure.idempotency.IdempotencyStore;
+import greeny.backend.infrastructure.image.ImageVariant;
 import greeny.backend.response.Response;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,14 +15,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
 import javax.validation.Valid;
-import java.util.List;
 import static greeny.backend.domain.Eco.*;
 import static greeny.backend.response.Response.success;
 import static greeny.backend.response.SuccessMessage.*;
 import static org.springframework.http.HttpStatus.OK;
-import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
 
 @RestController
 @RequiredArgsConstructor
@@ -31,22 +30,28 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final MemberService memberService;
+    private final IdempotencyStore idempotencyStore;
 
-    @PostMapping(consumes = MULTIPART_FORM_DATA_VALUE)
+    @PostMapping
     @ResponseStatus(OK)
-    @Operation(summary = "Write review API", description = "Put review type & content and object type you want to write")
+    @Operation(summary = "Write review API", description = "Put review type & content and object type you want to write. you can skip fileKeys from upload urls API and uploadIds from resumable upload API. " +
+            "Put Idempotency-Key header to retry safely, the same key returns the first response and reusing it with a different body returns 422.")
     public Response writeReview(
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY, required = false) String idempotencyKey,
             @RequestParam String type,
             @RequestParam Long id,
-            @Valid @RequestPart(name="body") WriteReviewRequestDto writeReviewRequestDto,
-            @RequestPart(name = "file", required = false) List<MultipartFile> multipartFiles
+            @Valid @RequestBody WriteReviewRequestDto writeReviewRequestDto
     ) {
+        return idempotencyStore.execute("review:" + type + ":" + id, idempotencyKey, writeReviewRequestDto, () -> writeReview(type, id, writeReviewRequestDto));
+    }
+
+    private Response writeReview(String type, Long id, WriteReviewRequestDto writeReviewRequestDto) {
         if (valueOf(type) == STORE) {
-            reviewService.writeStoreReview(id,writeReviewRequestDto,multipartFiles,memberService.getCurrentMember());
+            reviewService.writeStoreReview(id,writeReviewRequestDto,memberService.getCurrentMember());
             return success(SUCCESS_TO_WRITE_STORE_REVIEW);
         }
         else if (valueOf(type) == PRODUCT) {
-            reviewService.writeProductReview(id,writeReviewRequestDto,multipartFiles,memberService.getCurrentMember());
+            reviewService.writeProductReview(id,writeReviewRequestDto,memberService.getCurrentMember());
             return success(SUCCESS_TO_WRITE_PRODUCT_REVIEW);
         }
         else {
@@ -56,35 +61,71 @@ public class ReviewController {
 
     @GetMapping("/all")
     @ResponseStatus(OK)
-    @Operation(summary = "Get all simple review infos API", description = "Put review type and pageable object you want to get")
+    @Operation(summary = "Get all simple review infos API",
+            description = "Put review type and pageable object you want to get." +
+                    " cursor를 전달하면 (첫 페이지는 빈 값) 전체 개수를 세지 않고 최신순으로 다음 페이지 cursor를 반환하며, sort=id,desc 외의 정렬은 400 을 반환합니다." +
+                    " slice=true 이면 전체 개수를 세지 않고 다음 페이지 존재 여부만 반환하며, 그 외에는 totalElements 가 근사값일 수 있습니다 (exactCount).")
     public Response getAllSimpleReviewInfos(
             @RequestParam(required = false) String keyword,
             @RequestParam String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean slice,
+            @ParameterObject Pageable pageable
+    ) {
+        if (cursor != null) {
+            return success(SUCCESS_TO_GET_ALL_REVIEW_LIST,reviewService.searchSimpleReviewInfosByCursor(keyword,type,cursor,pageable));
+        }
+        return success(SUCCESS_TO_GET_ALL_REVIEW_LIST,reviewService.searchSimpleReviewInfos(keyword,type,slice,pageable));
+    }
+
+    @GetMapping("/timeline")
+    @ResponseStatus(OK)
+    @Operation(summary = "Get review timeline API",
+            description = "스토어 리뷰와 제품 리뷰를 합쳐 최신순으로 반환합니다." +
+                    " cursor를 전달하지 않으면 첫 페이지이며, 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    public Response getReviewTimeline(
+            @RequestParam(required = false) String cursor,
             @ParameterObject Pageable pageable
     ) {
-        return success(SUCCESS_TO_GET_ALL_REVIEW_LIST,reviewService.searchSimpleReviewInfos(keyword,type,pageable));
+        return success(SUCCESS_TO_GET_REVIEW_TIMELINE, reviewService.getReviewTimeline(cursor, pageable));
     }
 
     @GetMapping("/simple")
     @ResponseStatus(OK)
-    @Operation(summary = "Get simple review infos API", description = "Put review type and pageable object you want to get")
+    @Operation(summary = "Get simple review infos API",
+            description = "Put review type and pageable object you want to get." +
+                    " cursor를 전달하면 (첫 페이지는 빈 값) 전체 개수를 세지 않고 최신순으로 다음 페이지 cursor를 반환하며, sort=id,desc 외의 정렬은 400 을 반환합니다." +
+                    " slice=true 이면 전체 개수를 세지 않고 다음 페이지 존재 여부만 반환하며, 그 외에는 totalElements 가 근사값일 수 있습니다 (exactCount)." +
+                    " 추천순은 sort=helpfulCount,desc&sort=id,desc 로 요청합니다.")
     public Response getSimpleReviewInfos(
             @RequestParam String type,
             @RequestParam Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean slice,
             @ParameterObject Pageable pageable
     ) {
-        return success(SUCCESS_TO_GET_REVIEW_LIST,reviewService.getSimpleReviewInfos(type,id,pageable));
+        if (cursor != null) {
+            return success(SUCCESS_TO_GET_REVIEW_LIST,reviewService.getSimpleReviewInfosByCursor(type,id,cursor,pageable));
+        }
+        return success(SUCCESS_TO_GET_REVIEW_LIST,reviewService.getSimpleReviewInfos(type,id,slice,pageable));
     }
 
     @GetMapping
     @ResponseStatus(OK)
-    @Operation(summary = "Get review info API", description = "Put review type and reviewId you want to get")
-    public Response getReviewInfo(@RequestParam String type, @RequestParam Long id) {
+    @Operation(summary = "Get review info API", description = "Put review type and reviewId you want to get." +
+            " size=THUMBNAIL 또는 size=MEDIUM 이면 축소본 주소를 반환하며, 생략하면 원본 주소를 반환합니다." +
+            " proxy=true 이면 이미지 캐시를 거치는 proxyUrls 도 함께 반환합니다.")
+    public Response getReviewInfo(
+            @RequestParam String type,
+            @RequestParam Long id,
+            @RequestParam(required = false) ImageVariant size,
+            @RequestParam(defaultValue = "false") boolean proxy
+    ) {
         if (valueOf(type) == STORE) {
-            return success(SUCCESS_TO_GET_STORE_REVIEW,reviewService.getStoreReviewInfo(id));
+            return success(SUCCESS_TO_GET_STORE_REVIEW,reviewService.getStoreReviewInfo(id, size).withProxyUrls(proxy));
         }
         else if (valueOf(type) == PRODUCT) {
-            return success(SUCCESS_TO_GET_PRODUCT_REVIEW,reviewService.getProductReviewInfo(id));
+            return success(SUCCESS_TO_GET_PRODUCT_REVIEW,reviewService.getProductReviewInfo(id, size).withProxyUrls(proxy));
         }
         else {
             throw new TypeDoesntExistException();
@@ -93,13 +134,20 @@ public class ReviewController {
 
     @GetMapping("/auth")
     @ResponseStatus(OK)
-    @Operation(summary = "Get review info with Auth API", description = "Put review type and reviewId you want to get")
-    public Response getReviewInfoWithAuth(@RequestParam String type, @RequestParam Long id) {
+    @Operation(summary = "Get review info with Auth API", description = "Put review type and reviewId you want to get." +
+            " size=THUMBNAIL 또는 size=MEDIUM 이면 축소본 주소를 반환하며, 생략하면 원본 주소를 반환합니다." +
+            " proxy=true 이면 이미지 캐시를 거치는 proxyUrls 도 함께 반환합니다.")
+    public Response getReviewInfoWithAuth(
+            @RequestParam String type,
+            @RequestParam Long id,
+            @RequestParam(required = false) ImageVariant size,
+            @RequestParam(defaultValue = "false") boolean proxy
+    ) {
         if (valueOf(type) == STORE) {
-            return success(SUCCESS_TO_GET_STORE_REVIEW,reviewService.getStoreReviewInfoWithAuth(id,memberService.getCurrentMember()));
+            return success(SUCCESS_TO_GET_STORE_REVIEW,reviewService.getStoreReviewInfoWithAuth(id, size, memberService.getCurrentMember()).withProxyUrls(proxy));
         }
         else if (valueOf(type) == PRODUCT) {
-            return success(SUCCESS_TO_GET_PRODUCT_REVIEW,reviewService.getProductReviewInfoWithAuth(id,memberService.getCurrentMember()));
+            return success(SUCCESS_TO_GET_PRODUCT_REVIEW,reviewService.getProductReviewInfoWithAuth(id, size, memberService.getCurrentMember()).withProxyUrls(proxy));
         }
         else {
             throw new TypeDoesntExistException();
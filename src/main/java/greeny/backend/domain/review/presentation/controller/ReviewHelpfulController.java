@@ -0,0 +1,36 @@
+package greeny.backend.domain.review.presentation.controller;
+
+import greeny.backend.domain.member.application.MemberService;
+import greeny.backend.domain.review.application.ReviewHelpfulService;
+import greeny.backend.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import static greeny.backend.response.Response.success;
+import static greeny.backend.response.SuccessMessage.SUCCESS_TO_TOGGLE_REVIEW_HELPFUL;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/api/reviews/helpful")
+@Tag(name = "Review Helpful", description = "Review Helpful API Document")
+@Slf4j
+public class ReviewHelpfulController {
+
+    private final ReviewHelpfulService reviewHelpfulService;
+    private final MemberService memberService;
+
+    @PostMapping
+    @ResponseStatus(OK)
+    @Operation(summary = "Vote or unvote review helpful API", description = "Put review type and review id what you want to vote or unvote as helpful.")
+    public Response toggleReviewHelpful(@RequestParam String type, @RequestParam Long reviewId) {
+        reviewHelpfulService.toggle(type, reviewId, memberService.getCurrentMember());
+        return success(SUCCESS_TO_TOGGLE_REVIEW_HELPFUL);
+    }
+}
@@ -1,7 +1,9 @@
 package greeny.backend.domain.review.presentation.dto;
 
+import greeny.backend.infrastructure.image.ImageCache;
 import lombok.*;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Data
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -12,5 +14,14 @@ public class GetReviewInfoResponseDto {
     private Integer star;
     private String content;
     private List<String> fileUrls;
+    private List<String> proxyUrls;
     private boolean isWriter;
-}
\ No newline at end of file
+
+    // proxy 가 true 이면 서버의 이미지 캐시를 거치는 주소도 함께 반환한다.
+    public GetReviewInfoResponseDto withProxyUrls(boolean proxy) {
+        if (proxy) {
+            this.proxyUrls = fileUrls.stream().map(ImageCache::proxyUrlOf).collect(Collectors.toList());
+        }
+        return this;
+    }
+}
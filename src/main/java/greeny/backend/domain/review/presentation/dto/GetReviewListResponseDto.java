@@ -1,7 +1,6 @@
 package greeny.backend.domain.review.presentation.dto;
 
-import greeny.backend.domain.review.entity.ProductReview;
-import greeny.backend.domain.review.entity.StoreReview;
+import greeny.backend.domain.review.entity.ReviewListProjection;
 import lombok.*;
 
 @Data
@@ -17,52 +16,31 @@ public class GetReviewListResponseDto {
     private boolean existsFile;
     private String type;
     private Long idByType;
+    private int helpfulCount;
 
-    public static GetReviewListResponseDto from(StoreReview review) {
+    public static GetReviewListResponseDto from(ReviewListProjection review) {
         return GetReviewListResponseDto.builder()
                 .id(review.getId())
                 .createdAt(review.getCreatedAt())
-                .writerEmail(review.getReviewer().getEmail())
+                .writerEmail(review.getWriterEmail())
                 .star(review.getStar())
                 .content(review.getContent())
-                .existsFile(!review.getStoreReviewFiles().isEmpty())
+                .existsFile(review.getExistsFile())
+                .helpfulCount(review.getHelpfulCount())
                 .build();
     }
 
-    public static GetReviewListResponseDto toDetailStoreDto(StoreReview review, String type, Long idByType) {
+    public static GetReviewListResponseDto toDetailDto(ReviewListProjection review, String type) {
         return GetReviewListResponseDto.builder()
                 .id(review.getId())
                 .createdAt(review.getCreatedAt())
-                .writerEmail(review.getReviewer().getEmail())
+                .writerEmail(review.getWriterEmail())
                 .star(review.getStar())
                 .content(review.getContent())
-                .existsFile(!review.getStoreReviewFiles().isEmpty())
+                .existsFile(review.getExistsFile())
                 .type(type)
-                .idByType(idByType)
+                .idByType(review.getIdByType())
+                .helpfulCount(review.getHelpfulCount())
                 .build();
     }
-
-    public static GetReviewListResponseDto from(ProductReview review) {
-        return GetReviewListResponseDto.builder()
-                .id(review.getId())
-                .createdAt(review.getCreatedAt())
-                .writerEmail(review.getReviewer().getEmail())
-                .star(review.getStar())
-                .content(review.getContent())
-                .existsFile(!review.getProductReviewFiles().isEmpty())
-                .build();
-    }
-
-    public static GetReviewListResponseDto toDetailProductDto(ProductReview review, String type, Long idByType) {
-        return GetReviewListResponseDto.builder()
-                .id(review.getId())
-                .createdAt(review.getCreatedAt())
-                .writerEmail(review.getReviewer().getEmail())
-                .star(review.getStar())
-                .content(review.getContent())
-                .existsFile(!review.getProductReviewFiles().isEmpty())
-                .type(type)
-                .idByType(idByType)
-                .build();
-    }
-}
\ No newline at end of file
+}
@@ -7,9 +7,12 @@ import greeny.backend.domain.review.entity.StoreReview;
 import greeny.backend.domain.store.entity.Store;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
+import java.util.List;
 
 @Data
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -18,6 +21,8 @@ import javax.validation.constraints.Size;
 public class WriteReviewRequestDto {
 
     @NotNull(message = "별점을 입력해주세요.")
+    @Min(value = 1, message = "별점은 1점부터 5점까지 입력해주세요.")
+    @Max(value = 5, message = "별점은 1점부터 5점까지 입력해주세요.")
     @Schema(description = "별점", defaultValue = "4")
     private Integer star;
 
@@ -26,6 +31,14 @@ public class WriteReviewRequestDto {
     @Schema(description = "리뷰 내용", defaultValue = "default review content")
     private String content;
 
+    @Size(max = 10, message = "파일은 10개까지 첨부할 수 있습니다.")
+    @Schema(description = "업로드 URL 로 올린 파일의 fileKey 목록. 생략할 수 있습니다.")
+    private List<String> fileKeys;
+
+    @Size(max = 10, message = "파일은 10개까지 첨부할 수 있습니다.")
+    @Schema(description = "이어 올리기가 끝난 업로드의 uploadId 목록. 생략할 수 있습니다.")
+    private List<Long> uploadIds;
+
     public StoreReview toStoreReviewEntity(Member member, Store store) {
         return StoreReview.builder()
                 .reviewer(member)
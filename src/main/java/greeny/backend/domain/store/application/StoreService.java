@@ -7,39 +7,47 @@ import greeny.backend.domain.store.entity.StoreRepository;
 import greeny.backend.domain.store.entity.StoreSpecification;
 import greeny.backend.domain.wishlist.entity.StoreWishlist;
 import greeny.backend.exception.situation.store.StoreNotFoundException;
+import greeny.backend.infrastructure.cache.CountCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StoreService {
 
+    private static final String COUNT_KEY_PREFIX = "store";
+
     private final StoreRepository storeRepository;
+    private final CountCache countCache;
 
-    public Page<GetSimpleStoreInfosResponseDto> getSimpleStoreInfos(String keyword, String location, String category, Pageable pageable) {
-        return getStoresBySpec(keyword, location, category, pageable).map(store -> GetSimpleStoreInfosResponseDto.from(store, false));
+    public Slice<GetSimpleStoreInfosResponseDto> getSimpleStoreInfos(
+            String keyword,
+            String location,
+            String category,
+            boolean slice,
+            Pageable pageable
+    ) {
+        return getStoresBySpec(keyword, location, category, slice, pageable).map(store -> GetSimpleStoreInfosResponseDto.from(store, false));
     }
 
-    public Page<GetSimpleStoreInfosResponseDto> getSimpleStoreInfosWithAuthMember(
+    public Slice<GetSimpleStoreInfosResponseDto> getSimpleStoreInfosWithAuthMember(
             String keyword,
             String location,
             String category,
             List<StoreWishlist> storeWishlists,
+            boolean slice,
             Pageable pageable
     ) {
-        return isStoreWishlist(
-                getStoresBySpec(keyword, location, category, pageable).getContent(),
-                storeWishlists,
-                pageable
-        );
+        return isStoreWishlist(getStoresBySpec(keyword, location, category, slice, pageable), storeWishlists);
     }
 
     public GetStoreInfoResponseDto getStoreInfo(Long storeId) {
@@ -56,34 +64,24 @@ public class StoreService {
         return storeRepository.findById(storeId).orElseThrow(StoreNotFoundException::new);
     }
 
-    private Page<Store> getStoresBySpec(String keyword, String location, String category, Pageable pageable) {
-        return storeRepository.findAll(
-                StoreSpecification.create((root, query, criteriaBuilder) -> null, keyword, location, category), pageable
+    // slice 이면 전체 개수를 세지 않고, 아니면 검색 조건별로 캐싱된 개수를 사용
+    private Slice<Store> getStoresBySpec(String keyword, String location, String category, boolean slice, Pageable pageable) {
+        Specification<Store> spec = StoreSpecification.create((root, query, criteriaBuilder) -> null, keyword, location, category);
+        Slice<Store> stores = storeRepository.findSlice(spec, pageable);
+        if (slice) {
+            return stores;
+        }
+        return countCache.toPage(
+                stores,
+                CountCache.key(COUNT_KEY_PREFIX, keyword, location, category),
+                () -> storeRepository.count(spec)
         );
     }
 
-    private Page<GetSimpleStoreInfosResponseDto> isStoreWishlist(List<Store> stores, List<StoreWishlist> storeWishlists, Pageable pageable) {
-        List<GetSimpleStoreInfosResponseDto> simpleStores = new ArrayList<>();
-
-        for(Store store : stores) {
-            boolean isWishlist = false;
-            for(StoreWishlist storeWishlist : storeWishlists) {
-                if(storeWishlist.getStore().getId().equals(store.getId())) {
-                    isWishlist = true;
-                    simpleStores.add(GetSimpleStoreInfosResponseDto.from(store, isWishlist));
-                    storeWishlists.remove(storeWishlist);
-                    break;
-                }
-            }
-            if(!isWishlist) {
-                simpleStores.add(GetSimpleStoreInfosResponseDto.from(store, isWishlist));
-            }
-        }
-
-        return new PageImpl<>(
-                simpleStores,
-                pageable,
-                simpleStores.size()
-        );
+    private Slice<GetSimpleStoreInfosResponseDto> isStoreWishlist(Slice<Store> stores, List<StoreWishlist> storeWishlists) {
+        Set<Long> wishlistStoreIds = storeWishlists.stream()
+                .map(storeWishlist -> storeWishlist.getStore().getId())
+                .collect(Collectors.toSet());
+        return stores.map(store -> GetSimpleStoreInfosResponseDto.from(store, wishlistStoreIds.contains(store.getId())));
     }
-}
\ No newline at end of file
+}
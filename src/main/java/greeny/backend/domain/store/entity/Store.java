@@ -2,6 +2,7 @@ package greeny.backend.domain.store.entity;
 
 import greeny.backend.domain.AuditEntity;
 import greeny.backend.domain.product.entity.Product;
+import greeny.backend.domain.review.entity.RatingSummary;
 import greeny.backend.domain.review.entity.StoreReview;
 import greeny.backend.domain.wishlist.entity.StoreWishlist;
 import lombok.*;
@@ -18,6 +19,7 @@ import static javax.persistence.CascadeType.ALL;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
+@Table(indexes = @Index(name = "idx_store_rating_average", columnList = "rating_average, store_id"))
 public class Store extends AuditEntity {
 
     @Id
@@ -52,6 +54,10 @@ public class Store extends AuditEntity {
 
     private String runningTime;
 
+    @Embedded
+    @Builder.Default
+    private RatingSummary rating = RatingSummary.empty();
+
     @Formula("(select count(1) from store_wishlist sw where sw.store_id = store_id)")
     private int wishlists;
 
@@ -1,7 +1,21 @@
 package greeny.backend.domain.store.entity;
 
+import greeny.backend.domain.review.entity.RatingSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface StoreRepository extends JpaRepository<Store, Long>, JpaSpecificationExecutor<Store> {
-}
\ No newline at end of file
+public interface StoreRepository extends JpaRepository<Store, Long>, JpaSpecificationExecutor<Store>, StoreRepositoryCustom {
+
+    @Modifying
+    @Query(value = "update Store set " + RatingSummary.ADD_REVIEW_SQL + " where store_id = :storeId", nativeQuery = true)
+    int addRating(@Param("storeId") Long storeId, @Param("star") int star);
+
+    // 리뷰를 지우기 전에 실행하며, 작성자의 리뷰가 아니면 아무것도 바꾸지 않는다.
+    @Modifying
+    @Query(value = "update Store t join StoreReview r on r.store_id = t.store_id set " + RatingSummary.SUBTRACT_REVIEW_SQL +
+            " where r.store_review_id = :reviewId and r.reviewer_id = :reviewerId", nativeQuery = true)
+    int subtractRating(@Param("reviewId") Long reviewId, @Param("reviewerId") Long reviewerId);
+}
@@ -0,0 +1,10 @@
+package greeny.backend.domain.store.entity;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface StoreRepositoryCustom {
+
+    Slice<Store> findSlice(Specification<Store> spec, Pageable pageable);
+}
@@ -0,0 +1,44 @@
+package greeny.backend.domain.store.entity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+// JpaSpecificationExecutor 는 Page 만 반환하므로 count 쿼리 없이 size + 1 개를 조회하는 Slice 조회를 직접 구현
+@RequiredArgsConstructor
+public class StoreRepositoryImpl implements StoreRepositoryCustom {
+
+    private final EntityManager em;
+
+    @Override
+    public Slice<Store> findSlice(Specification<Store> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = em.getCriteriaBuilder();
+        CriteriaQuery<Store> query = criteriaBuilder.createQuery(Store.class);
+        Root<Store> root = query.from(Store.class);
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        TypedQuery<Store> typedQuery = em.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        }
+        List<Store> stores = typedQuery.getResultList();
+
+        boolean hasNext = pageable.isPaged() && stores.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? stores.subList(0, pageable.getPageSize()) : stores, pageable, hasNext);
+    }
+}
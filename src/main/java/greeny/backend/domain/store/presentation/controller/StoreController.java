@@ -28,26 +28,32 @@ public class StoreController {
 
     @GetMapping("/simple")
     @ResponseStatus(OK)
-    @Operation(summary = "Get simple store infos API", description = "Put keyword if you want to search and page info what you want to see.")
+    @Operation(summary = "Get simple store infos API", description = "Put keyword if you want to search and page info what you want to see." +
+            " slice=true 이면 전체 개수를 세지 않고 다음 페이지 존재 여부만 반환하며, 그 외에는 totalElements 가 근사값일 수 있습니다 (exactCount)." +
+            " sort=rating.average,desc 로 평점순 정렬할 수 있습니다.")
     public Response getSimpleStoreInfos(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "false") boolean slice,
             @ParameterObject Pageable pageable
     ) {
-        return success(SUCCESS_TO_GET_SIMPLE_STORE_INFOS, storeService.getSimpleStoreInfos(keyword, location, category, pageable));
+        return success(SUCCESS_TO_GET_SIMPLE_STORE_INFOS, storeService.getSimpleStoreInfos(keyword, location, category, slice, pageable));
     }
 
     @GetMapping("/auth/simple")
     @ResponseStatus(OK)
     @Operation(
             summary = "Get simple store infos with auth member API",
-            description = "Put keyword if you want to search and page info what you want to see."
+            description = "Put keyword if you want to search and page info what you want to see." +
+                    " slice=true 이면 전체 개수를 세지 않고 다음 페이지 존재 여부만 반환하며, 그 외에는 totalElements 가 근사값일 수 있습니다 (exactCount)." +
+                    " sort=rating.average,desc 로 평점순 정렬할 수 있습니다."
     )
     public Response getSimpleStoreInfosWithAuthMember(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "false") boolean slice,
             @ParameterObject Pageable pageable
     ) {
         return success(
@@ -57,6 +63,7 @@ public class StoreController {
                         location,
                         category,
                         wishlistService.getStoreWishlists(memberService.getCurrentMember()),
+                        slice,
                         pageable
                 )
         );
@@ -14,6 +14,7 @@ public class GetSimpleStoreInfosResponseDto {
     private String imageUrl;
     private String location;
     private Boolean isWishlist;
+    private Double ratingAverage;
 
     public static GetSimpleStoreInfosResponseDto from(Store store, boolean isWishlist) {
         return GetSimpleStoreInfosResponseDto.builder()
@@ -23,6 +24,7 @@ public class GetSimpleStoreInfosResponseDto {
                 .imageUrl(store.getImageUrl())
                 .location(store.getLocation().substring(0, 2))
                 .isWishlist(isWishlist)
+                .ratingAverage(store.getRating().calculateAverage())
                 .build();
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package greeny.backend.domain.store.presentation.dto;
 
 import greeny.backend.domain.store.entity.Store;
 import lombok.*;
+import java.util.List;
 
 @Data
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -17,6 +18,9 @@ public class GetStoreInfoResponseDto {
     private String phone;
     private String runningTime;
     private Boolean isWishlist;
+    private Double ratingAverage;
+    private Integer ratingCount;
+    private List<Integer> starCounts;
 
     public static GetStoreInfoResponseDto from(Store store, boolean isWishlist) {
         return GetStoreInfoResponseDto.builder()
@@ -29,6 +33,9 @@ public class GetStoreInfoResponseDto {
                 .phone(store.getPhone())
                 .runningTime(store.getRunningTime())
                 .isWishlist(isWishlist)
+                .ratingAverage(store.getRating().calculateAverage())
+                .ratingCount(store.getRating().getCount())
+                .starCounts(store.getRating().getStarCounts())
                 .build();
     }
 }
\ No newline at end of file
@@ -12,9 +12,12 @@ import greeny.backend.domain.store.presentation.dto.GetSimpleStoreInfosResponseD
 import greeny.backend.domain.store.entity.Store;
 import greeny.backend.domain.store.application.StoreService;
 import greeny.backend.exception.situation.common.TypeDoesntExistException;
+import greeny.backend.response.Cursor;
+import greeny.backend.response.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -52,6 +55,38 @@ public class WishlistService {
                 .map(productWishlist -> GetSimpleProductInfosResponseDto.from(productWishlist.getProduct(),true));
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<GetSimpleStoreInfosResponseDto> getSimpleStoreWishlistsInfoByCursor(String cursor, Pageable pageable, Member liker) {
+        Cursor.validateIdSort(pageable.getSort());
+        int size = pageable.getPageSize();
+        return CursorPage.of(
+                storeWishlistRepository.findStoreWishlistsByMemberAndCursor(
+                        liker.getId(),
+                        Cursor.decode(cursor, 1).getLong(0, Long.MAX_VALUE),
+                        PageRequest.of(0, size + 1)
+                ),
+                size,
+                storeWishlist -> Cursor.encode(storeWishlist.getId()),
+                storeWishlist -> GetSimpleStoreInfosResponseDto.from(storeWishlist.getStore(), true)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<GetSimpleProductInfosResponseDto> getSimpleProductWishlistsInfoByCursor(String cursor, Pageable pageable, Member liker) {
+        Cursor.validateIdSort(pageable.getSort());
+        int size = pageable.getPageSize();
+        return CursorPage.of(
+                productWishlistRepository.findProductWishlistsByMemberAndCursor(
+                        liker.getId(),
+                        Cursor.decode(cursor, 1).getLong(0, Long.MAX_VALUE),
+                        PageRequest.of(0, size + 1)
+                ),
+                size,
+                productWishlist -> Cursor.encode(productWishlist.getId()),
+                productWishlist -> GetSimpleProductInfosResponseDto.from(productWishlist.getProduct(), true)
+        );
+    }
+
     public void toggleStoreWishlist(String type, Long id, Member liker) {
         if (valueOf(type) == STORE) {
             checkAndToggleStoreWishlistBySituation(storeService.getStore(id), liker);
@@ -12,7 +12,10 @@ import static javax.persistence.FetchType.*;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
-@Table(uniqueConstraints = @UniqueConstraint(name = "unique_product_member", columnNames = {"product_id", "member_id"}))
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "unique_product_member", columnNames = {"product_id", "member_id"}),
+        indexes = @Index(name = "idx_product_wishlist_member", columnList = "member_id, product_wishlist_id")
+)
 public class ProductWishlist extends AuditEntity {
 
     @Id
@@ -21,6 +21,9 @@ public interface ProductWishlistRepository extends JpaRepository<ProductWishlist
     @EntityGraph(attributePaths = {"product"})
     Page<ProductWishlist> findProductWishlistsByMember(Pageable pageable , Member member);
 
+    @Query("select pw from ProductWishlist pw join fetch pw.product p join fetch p.store where pw.member.id = :memberId and pw.id < :id order by pw.id desc")
+    List<ProductWishlist> findProductWishlistsByMemberAndCursor(@Param("memberId") Long memberId, @Param("id") Long id, Pageable pageable);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from ProductWishlist pw where pw.id in :ids")
     void deleteProductWishlistsByIds(@Param("ids") List<Long> ids);
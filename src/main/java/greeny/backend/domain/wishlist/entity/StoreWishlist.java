@@ -12,7 +12,10 @@ import static javax.persistence.FetchType.*;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 @Getter
-@Table(uniqueConstraints = @UniqueConstraint(name = "unique_store_member", columnNames = {"store_id", "member_id"}))
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "unique_store_member", columnNames = {"store_id", "member_id"}),
+        indexes = @Index(name = "idx_store_wishlist_member", columnList = "member_id, store_wishlist_id")
+)
 public class StoreWishlist extends AuditEntity {
 
     @Id
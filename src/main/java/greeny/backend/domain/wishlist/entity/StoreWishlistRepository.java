@@ -21,6 +21,9 @@ public interface StoreWishlistRepository extends JpaRepository<StoreWishlist, Lo
     @EntityGraph(attributePaths = {"store"})
     Page<StoreWishlist> findStoreWishlistsByMember(Pageable pageable , Member member);
 
+    @Query("select sw from StoreWishlist sw join fetch sw.store where sw.member.id = :memberId and sw.id < :id order by sw.id desc")
+    List<StoreWishlist> findStoreWishlistsByMemberAndCursor(@Param("memberId") Long memberId, @Param("id") Long id, Pageable pageable);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("delete from StoreWishlist sw where sw.id in :ids")
     void deleteStoreWishlistsByIds(@Param("ids") List<Long> ids);
@@ -3,12 +3,21 @@ package greeny.backend.exception.advice;
 import greeny.backend.exception.situation.comment.CommentNotFoundException;
 import greeny.backend.exception.situation.common.EmptyFileException;
 import greeny.backend.exception.situation.common.FileUploadFailureException;
+import greeny.backend.exception.situation.common.IdempotencyKeyInUseException;
+import greeny.backend.exception.situation.common.IdempotencyKeyReusedException;
+import greeny.backend.exception.situation.common.InvalidCursorException;
+import greeny.backend.exception.situation.common.InvalidFileKeyException;
+import greeny.backend.exception.situation.common.InvalidUploadLengthException;
+import greeny.backend.exception.situation.common.ResumableUploadNotFoundException;
 import greeny.backend.exception.situation.common.TypeDoesntExistException;
+import greeny.backend.exception.situation.common.UnsupportedCursorSortException;
+import greeny.backend.exception.situation.common.UploadOffsetConflictException;
 import greeny.backend.exception.situation.member.*;
 import greeny.backend.exception.situation.post.PostNotFoundException;
 import greeny.backend.exception.situation.post.SelfLikeNotAllowedException;
 import greeny.backend.exception.situation.product.ProductNotFoundException;
 import greeny.backend.exception.situation.review.ReviewNotFoundException;
+import greeny.backend.exception.situation.review.SelfHelpfulVoteNotAllowedException;
 import greeny.backend.exception.situation.store.StoreNotFoundException;
 import greeny.backend.response.Response;
 import lombok.extern.slf4j.Slf4j;
@@ -99,6 +108,42 @@ public class ExceptionAdvice {
         return failure(NOT_FOUND, "파일이 비어있습니다.");
     }
 
+    @ExceptionHandler(InvalidFileKeyException.class)
+    @ResponseStatus(BAD_REQUEST)
+    public Response invalidFileKeyException() {
+        return failure(BAD_REQUEST, "업로드되지 않았거나 사용할 수 없는 파일입니다.");
+    }
+
+    @ExceptionHandler(ResumableUploadNotFoundException.class)
+    @ResponseStatus(NOT_FOUND)
+    public Response resumableUploadNotFoundException() {
+        return failure(NOT_FOUND, "요청한 업로드를 찾을 수 없습니다.");
+    }
+
+    @ExceptionHandler(UploadOffsetConflictException.class)
+    @ResponseStatus(CONFLICT)
+    public Response uploadOffsetConflictException() {
+        return failure(CONFLICT, "업로드 위치가 일치하지 않습니다. 현재 위치를 다시 확인해주세요.");
+    }
+
+    @ExceptionHandler(InvalidUploadLengthException.class)
+    @ResponseStatus(BAD_REQUEST)
+    public Response invalidUploadLengthException() {
+        return failure(BAD_REQUEST, "업로드할 수 없는 파일 또는 조각 크기입니다.");
+    }
+
+    @ExceptionHandler(IdempotencyKeyInUseException.class)
+    @ResponseStatus(CONFLICT)
+    public Response idempotencyKeyInUseException() {
+        return failure(CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    @ResponseStatus(UNPROCESSABLE_ENTITY)
+    public Response idempotencyKeyReusedException() {
+        return failure(UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용한 Idempotency-Key 입니다.");
+    }
+
     @ExceptionHandler(RefreshTokenNotFoundException.class)
     @ResponseStatus(NOT_FOUND)
     public Response refreshTokenNotFoundException() {
@@ -153,10 +198,28 @@ public class ExceptionAdvice {
         return failure(BAD_REQUEST, "타입이 존재하지 않습니다.");
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(BAD_REQUEST)
+    public Response invalidCursorException() {
+        return failure(BAD_REQUEST, "올바르지 않은 커서입니다.");
+    }
+
+    @ExceptionHandler(UnsupportedCursorSortException.class)
+    @ResponseStatus(BAD_REQUEST)
+    public Response unsupportedCursorSortException() {
+        return failure(BAD_REQUEST, "커서 사용 시 정렬은 sort=id,desc 또는 sort=likes,desc 만 지원합니다.");
+    }
+
     @ExceptionHandler(ReviewNotFoundException.class)
     @ResponseStatus(NOT_FOUND)
     public Response reviewNotFoundException() { return failure(NOT_FOUND, "요청한 리뷰를 찾을 수 없습니다."); }
 
+    @ExceptionHandler(SelfHelpfulVoteNotAllowedException.class)
+    @ResponseStatus(FORBIDDEN)
+    public Response selfHelpfulVoteNotAllowedException() {
+        return failure(FORBIDDEN, "리뷰 작성자는 자기의 리뷰를 추천할 수 없습니다.");
+    }
+
     @ExceptionHandler(PostNotFoundException.class)
     @ResponseStatus(NOT_FOUND)
     public Response postNotFoundException() {
@@ -0,0 +1,4 @@
+package greeny.backend.exception.situation.common;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+}
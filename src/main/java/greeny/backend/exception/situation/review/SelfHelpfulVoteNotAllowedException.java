@@ -0,0 +1,4 @@
+package greeny.backend.exception.situation.review;
+
+public class SelfHelpfulVoteNotAllowedException extends RuntimeException {
+}
@@ -0,0 +1,61 @@
+package greeny.backend.infrastructure.aws;
+
+import greeny.backend.exception.situation.common.FileUploadFailureException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 멀티파트 업로드에 사용하는 파트 버퍼를 재사용한다.
+ * 동시에 빌려줄 수 있는 버퍼 수를 제한하여 업로드에 쓰이는 힙 메모리의 상한을 고정한다.
+ */
+@Component
+@Profile("!local-storage")
+public class PartBufferPool {
+
+    @Getter
+    private final int partSize;
+    @Getter
+    private final int maxBuffers;
+    private final Semaphore permits;
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger borrowed = new AtomicInteger();
+    private final AtomicInteger maxBorrowed = new AtomicInteger();
+
+    public PartBufferPool(
+            @Value("${file-upload.part-size:5242880}") int partSize,
+            @Value("${file-upload.part-buffers:8}") int maxBuffers
+    ) {
+        this.partSize = partSize;
+        this.maxBuffers = maxBuffers;
+        this.permits = new Semaphore(maxBuffers);
+    }
+
+    public byte[] acquire() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileUploadFailureException(e.getMessage());
+        }
+        maxBorrowed.accumulateAndGet(borrowed.incrementAndGet(), Math::max);
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    public void release(byte[] buffer) {
+        borrowed.decrementAndGet();
+        buffers.offer(buffer);
+        permits.release();
+    }
+
+    // 지금까지 동시에 빌려준 버퍼 수의 최댓값
+    public int getMaxBorrowed() {
+        return maxBorrowed.get();
+    }
+}
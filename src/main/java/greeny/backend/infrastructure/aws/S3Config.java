@@ -1,5 +1,6 @@
 package greeny.backend.infrastructure.aws;
 
+import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
@@ -7,8 +8,10 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 @Configuration
+@Profile("!local-storage")
 public class S3Config {
 
     @Value("${cloud.aws.credentials.access-key}")
@@ -21,9 +24,14 @@ public class S3Config {
     private String region;
 
     @Bean
-    public AmazonS3 s3Client() {
+    public AWSCredentialsProvider awsCredentialsProvider() {
+        return new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey));
+    }
+
+    @Bean
+    public AmazonS3 s3Client(AWSCredentialsProvider awsCredentialsProvider) {
         return AmazonS3ClientBuilder.standard()
-                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)))
+                .withCredentials(awsCredentialsProvider)
                 .withRegion(region).build();
     }
 }
\ No newline at end of file
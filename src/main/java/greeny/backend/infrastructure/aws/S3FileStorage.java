@@ -0,0 +1,249 @@
+package greeny.backend.infrastructure.aws;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greeny.backend.exception.situation.common.FileUploadFailureException;
+import greeny.backend.infrastructure.storage.FilePage;
+import greeny.backend.infrastructure.storage.FileStorage;
+import greeny.backend.infrastructure.storage.FileSummary;
+import greeny.backend.infrastructure.storage.UploadForm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+@Component
+@Profile("!local-storage")
+@RequiredArgsConstructor
+@Slf4j
+public class S3FileStorage implements FileStorage {
+
+    private static final String POLICY_ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter AMZ_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+    @Value("${cloud.aws.region.static}")
+    private String region;
+    private final AmazonS3 s3Client;
+    private final AWSCredentialsProvider awsCredentialsProvider;
+    private final ObjectMapper objectMapper;
+    private final PartBufferPool partBufferPool;
+
+    @Value("${file-upload.multipart-threshold:8388608}")
+    private long multipartThreshold;
+
+    // 파일 전체를 힙에 복사하지 않고 업로드 스트림을 그대로 전송한다.
+    @Override
+    public void upload(String fileName, InputStream inputStream, long size, String contentType) {
+        try {
+            if (size > multipartThreshold) {
+                uploadMultipart(fileName, contentType, inputStream);
+                return;
+            }
+            ObjectMetadata objectMetadata = new ObjectMetadata();
+            objectMetadata.setContentType(contentType);
+            objectMetadata.setContentLength(size);
+            s3Client.putObject(new PutObjectRequest(
+                    bucketName,
+                    fileName,
+                    inputStream,
+                    objectMetadata
+            ).withCannedAcl(CannedAccessControlList.PublicRead));
+        } catch (Exception e) {
+            throw new FileUploadFailureException(e.getMessage());
+        }
+    }
+
+    @Override
+    public InputStream download(String fileName) {
+        return s3Client.getObject(bucketName, fileName).getObjectContent();
+    }
+
+    @Override
+    public void delete(String fileName) {
+        s3Client.deleteObject(new DeleteObjectRequest(bucketName, fileName));
+    }
+
+    /**
+     * 최대 1000개의 파일을 한 번의 요청으로 삭제한다.
+     */
+    @Override
+    public List<String> deleteAll(List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+        DeleteObjectsRequest deleteObjectsRequest = new DeleteObjectsRequest(bucketName)
+                .withKeys(fileNames.toArray(new String[0]))
+                .withQuiet(true);
+        try {
+            s3Client.deleteObjects(deleteObjectsRequest);
+            return new ArrayList<>();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .collect(Collectors.toList());
+        } catch (AmazonClientException e) {
+            log.warn("Failed to delete {} files", fileNames.size(), e);
+            return new ArrayList<>(fileNames);
+        }
+    }
+
+    /**
+     * 서명된 PUT URL 로는 올리는 크기를 제한할 수 없으므로, content-length-range 조건을 담은 POST 정책에 SigV4 로 서명한다.
+     * 업로드된 파일도 공개 읽기가 가능하도록 ACL 을 정책에 포함한다.
+     */
+    @Override
+    public UploadForm createUploadForm(String fileName, String contentType, long maxSize, Date expiration) {
+        AWSCredentials credentials = awsCredentialsProvider.getCredentials();
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        String date = now.format(DATE_FORMATTER);
+        String credential = credentials.getAWSAccessKeyId() + "/" + date + "/" + region + "/s3/aws4_request";
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("key", fileName);
+        fields.put("acl", CannedAccessControlList.PublicRead.toString());
+        fields.put("Content-Type", contentType);
+        fields.put("x-amz-algorithm", POLICY_ALGORITHM);
+        fields.put("x-amz-credential", credential);
+        fields.put("x-amz-date", now.format(AMZ_DATE_FORMATTER));
+
+        List<Object> conditions = new ArrayList<>();
+        conditions.add(Map.of("bucket", bucketName));
+        fields.forEach((name, value) -> conditions.add(Map.of(name, value)));
+        conditions.add(List.of("content-length-range", 0, maxSize));
+        Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("expiration", DateTimeFormatter.ISO_INSTANT.format(expiration.toInstant()));
+        policy.put("conditions", conditions);
+
+        try {
+            String encodedPolicy = Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(policy));
+            byte[] signingKey = hmac(("AWS4" + credentials.getAWSSecretKey()).getBytes(StandardCharsets.UTF_8), date);
+            signingKey = hmac(signingKey, region);
+            signingKey = hmac(signingKey, "s3");
+            signingKey = hmac(signingKey, "aws4_request");
+            fields.put("policy", encodedPolicy);
+            fields.put("x-amz-signature", HexFormat.of().formatHex(hmac(signingKey, encodedPolicy)));
+            return UploadForm.post(new URL("https://" + bucketName + ".s3." + region + ".amazonaws.com/"), fields);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public OptionalLong findSize(String fileName) {
+        try {
+            return OptionalLong.of(s3Client.getObjectMetadata(bucketName, fileName).getContentLength());
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return OptionalLong.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public FilePage listFiles(String pageToken, int maxFiles) {
+        ListObjectsV2Result result = s3Client.listObjectsV2(new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withMaxKeys(maxFiles)
+                .withContinuationToken(pageToken));
+        List<FileSummary> files = result.getObjectSummaries().stream()
+                .map(objectSummary -> FileSummary.of(objectSummary.getKey(), objectSummary.getLastModified().toInstant()))
+                .collect(Collectors.toList());
+        return FilePage.of(files, result.isTruncated() ? result.getNextContinuationToken() : null);
+    }
+
+    // 풀에서 빌린 버퍼 하나로 파트를 순서대로 읽어 올리므로 파일 크기와 관계없이 파트 크기만큼만 메모리를 사용한다.
+    private void uploadMultipart(String fileName, String contentType, InputStream inputStream) throws IOException {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        String uploadId = s3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, fileName, objectMetadata)
+                        .withCannedACL(CannedAccessControlList.PublicRead)
+        ).getUploadId();
+
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            byte[] buffer = partBufferPool.acquire();
+            try {
+                int length;
+                while ((length = readPart(inputStream, buffer)) > 0) {
+                    partETags.add(s3Client.uploadPart(new UploadPartRequest()
+                            .withBucketName(bucketName)
+                            .withKey(fileName)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partETags.size() + 1)
+                            .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                            .withPartSize(length)
+                    ).getPartETag());
+                }
+            } finally {
+                partBufferPool.release(buffer);
+            }
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, fileName, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, fileName, uploadId));
+            throw e;
+        }
+    }
+
+    private int readPart(InputStream inputStream, byte[] buffer) throws IOException {
+        int offset = 0;
+        int read;
+        while (offset < buffer.length && (read = inputStream.read(buffer, offset, buffer.length - offset)) != -1) {
+            offset += read;
+        }
+        return offset;
+    }
+
+    private byte[] hmac(byte[] key, String value) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package greeny.backend.infrastructure.cache;
+
+import greeny.backend.response.CountedPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 조회의 전체 개수(count 쿼리 결과)를 정규화된 검색 조건별로 캐싱한다.
+ * TTL 이 지나거나 해당 접두사의 데이터가 변경되면(invalidate) 다시 센다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CountCache {
+
+    private static final int MAX_ENTRIES = 1000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${count-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    /**
+     * 마지막 페이지이면 count 쿼리 없이 정확한 개수를 계산하고,
+     * 그렇지 않으면 캐시된 개수(근사값) 또는 새로 센 개수(정확한 값)를 사용한다.
+     */
+    public <T> CountedPage<T> toPage(Slice<T> slice, String key, LongSupplier counter) {
+        long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return CountedPage.of(slice, offset + slice.getNumberOfElements(), true);
+        }
+
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            // 캐시된 개수가 현재 페이지보다 작으면 다음 페이지가 가려지므로 최소값을 보정한다.
+            long minimum = offset + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+            return CountedPage.of(slice, Math.max(entry.count, minimum), false);
+        }
+
+        long count = counter.getAsLong();
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(expired -> expired.expiresAt <= now);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(count, now + ttlSeconds * 1000));
+        return CountedPage.of(slice, count, true);
+    }
+
+    // 커밋 전에 지우면 그 사이 다른 요청이 커밋 전 개수를 다시 캐싱하므로 커밋 후에 지운다.
+    // 트랜잭션 밖에서 호출되면 바로 지운다.
+    public void invalidate(String prefix) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(prefix);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(prefix);
+            }
+        });
+    }
+
+    private void evict(String prefix) {
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public static String key(String prefix, Object... conditions) {
+        StringBuilder key = new StringBuilder(prefix);
+        for (Object condition : conditions) {
+            key.append(':').append(condition == null ? "" : condition.toString().toLowerCase());
+        }
+        return key.toString();
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final long count;
+        private final long expiresAt;
+    }
+}
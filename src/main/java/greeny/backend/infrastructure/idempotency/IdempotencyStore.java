@@ -0,0 +1,142 @@
+package greeny.backend.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import greeny.backend.exception.situation.common.IdempotencyKeyInUseException;
+import greeny.backend.exception.situation.common.IdempotencyKeyReusedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더가 있는 쓰기 요청의 결과를 TTL 동안 보관한다.
+ * 같은 회원이 같은 키로 다시 요청하면 다시 실행하지 않고 처음 응답을 돌려주며,
+ * 처음 요청이 아직 실행 중이면 끝날 때까지 기다린다. 실패한 요청은 보관하지 않으므로 다시 시도할 수 있다.
+ * 요청 본문의 해시를 함께 보관하여, 같은 키로 다른 본문을 보내면 처음 응답 대신 IdempotencyKeyReusedException 을 던진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+    @Value("${idempotency.max-entries:10000}")
+    private int maxEntries;
+    @Value("${idempotency.wait-timeout-seconds:30}")
+    private long waitTimeoutSeconds;
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String idempotencyKey, Object request, Supplier<T> action) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return action.get();
+        }
+        String key = key(scope, idempotencyKey);
+        Entry entry = new Entry(hash(request));
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                break;
+            }
+            if (!existing.isExpired(System.currentTimeMillis())) {
+                if (!MessageDigest.isEqual(existing.requestHash, entry.requestHash)) {
+                    throw new IdempotencyKeyReusedException();
+                }
+                return (T) await(existing);
+            }
+            if (entries.replace(key, existing, entry)) {
+                break;
+            }
+        }
+
+        try {
+            T result = action.get();
+            entry.complete(result, System.currentTimeMillis() + ttlSeconds * 1000);
+            evictIfFull();
+            return result;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(Entry entry) {
+        try {
+            return entry.result.get(waitTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInUseException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInUseException();
+        }
+    }
+
+    // 만료된 결과를 먼저 지우고, 그래도 가득 차면 가장 먼저 만료될 결과부터 지운다. 실행 중인 요청은 지우지 않는다.
+    private void evictIfFull() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(expired -> expired.isExpired(now));
+        int overflow = entries.size() - maxEntries;
+        if (overflow <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .filter(completed -> completed.getValue().result.isDone())
+                .sorted(Comparator.comparingLong(completed -> completed.getValue().expiresAt))
+                .limit(overflow)
+                .forEach(evicted -> entries.remove(evicted.getKey(), evicted.getValue()));
+    }
+
+    // 다른 회원이 같은 키를 보내도 섞이지 않도록 인증된 회원의 이메일을 키에 포함한다.
+    private String key(String scope, String idempotencyKey) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String owner = authentication == null ? "" : authentication.getName();
+        return scope + ':' + owner + ':' + idempotencyKey;
+    }
+
+    private byte[] hash(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final byte[] requestHash;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private void complete(Object value, long expiresAt) {
+            this.expiresAt = expiresAt;
+            result.complete(value);
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
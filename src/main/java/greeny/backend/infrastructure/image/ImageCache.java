@@ -0,0 +1,241 @@
+package greeny.backend.infrastructure.image;
+
+import greeny.backend.infrastructure.storage.FileStorage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 저장소의 이미지를 로컬 디스크에 내려받아 두는 크기 제한 LRU 캐시.
+ * 같은 파일을 동시에 요청해도 저장소에서는 한 번만 내려받는다.
+ * 캐시 목록은 메모리에만 있으므로 서버가 뜰 때 캐시 디렉토리를 비운다.
+ */
+@Component
+@Slf4j
+public class ImageCache {
+
+    private static final String PROXY_PATH = "/api/images/";
+
+    private final FileStorage fileStorage;
+    private final Path directory;
+    private final long maxSize;
+
+    // 접근 순서로 정렬되므로 가장 앞의 항목이 가장 오래 쓰이지 않은 이미지다.
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Optional<Entry>>> fetches = new ConcurrentHashMap<>();
+    private long totalSize;
+
+    public ImageCache(
+            FileStorage fileStorage,
+            @Value("${image-cache.directory:${java.io.tmpdir}/greeny-image-cache}") String directory,
+            @Value("${image-cache.max-size:1073741824}") long maxSize
+    ) throws IOException {
+        this.fileStorage = fileStorage;
+        this.directory = Files.createDirectories(Paths.get(directory)).toAbsolutePath().normalize();
+        this.maxSize = maxSize;
+        try (Stream<Path> files = Files.list(this.directory)) {
+            files.forEach(this::deleteQuietly);
+        }
+    }
+
+    public static String proxyUrlOf(String fileKey) {
+        return PROXY_PATH + fileKey;
+    }
+
+    /**
+     * 캐시된 이미지를 읽을 수 있도록 연다. 저장소에 없는 파일이면 빈 값을 반환한다.
+     * 연 뒤에 캐시에서 밀려나 파일이 지워져도 열어 둔 채널로는 끝까지 읽을 수 있다.
+     */
+    public Optional<CachedImage> open(String fileKey) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            Optional<Entry> entry = getOrFetch(fileKey);
+            if (entry.isEmpty()) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(new CachedImage(FileChannel.open(entry.get().path, StandardOpenOption.READ), entry.get()));
+            } catch (NoSuchFileException e) {
+                remove(fileKey, entry.get());
+                if (attempt > 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 저장소에서 삭제된 파일을 더 이상 내려주지 않도록 캐시에서 지운다.
+    // 내려받는 중이면 끝날 때까지 기다린 뒤 지워서, 삭제 직전에 내려받은 내용이 남지 않게 한다.
+    public void evict(String fileKey) {
+        CompletableFuture<Optional<Entry>> runningFetch = fetches.get(fileKey);
+        if (runningFetch != null) {
+            try {
+                runningFetch.join();
+            } catch (CompletionException ignored) {
+                // 내려받기에 실패했으면 캐시에 남은 것이 없다.
+            }
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.remove(fileKey);
+            if (entry != null) {
+                totalSize -= entry.size;
+            }
+        }
+        if (entry != null) {
+            deleteQuietly(entry.path);
+        }
+    }
+
+    private Optional<Entry> getOrFetch(String fileKey) {
+        Entry cached = get(fileKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        CompletableFuture<Optional<Entry>> fetch = new CompletableFuture<>();
+        CompletableFuture<Optional<Entry>> runningFetch = fetches.putIfAbsent(fileKey, fetch);
+        if (runningFetch != null) {
+            return join(runningFetch);
+        }
+        try {
+            // 확인한 뒤 다른 요청이 내려받기를 끝냈을 수 있다.
+            cached = get(fileKey);
+            Optional<Entry> entry = cached != null ? Optional.of(cached) : fetch(fileKey);
+            fetch.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            fetches.remove(fileKey, fetch);
+        }
+    }
+
+    private Optional<Entry> fetch(String fileKey) {
+        if (fileStorage.findSize(fileKey).isEmpty()) {
+            return Optional.empty();
+        }
+        Path path = directory.resolve(hash(fileKey.getBytes(StandardCharsets.UTF_8)));
+        Path temporaryPath = null;
+        try {
+            temporaryPath = Files.createTempFile(directory, "fetch", ".tmp");
+            String etag;
+            try (DigestInputStream inputStream = new DigestInputStream(fileStorage.download(fileKey), MessageDigest.getInstance("SHA-256"))) {
+                Files.copy(inputStream, temporaryPath, StandardCopyOption.REPLACE_EXISTING);
+                etag = "\"" + HexFormat.of().formatHex(inputStream.getMessageDigest().digest()) + "\"";
+            }
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Entry entry = new Entry(path, Files.size(path), etag, MediaTypeFactory.getMediaType(fileKey).orElse(MediaType.APPLICATION_OCTET_STREAM));
+            put(fileKey, entry);
+            return Optional.of(entry);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            if (temporaryPath != null) {
+                deleteQuietly(temporaryPath);
+            }
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private synchronized Entry get(String fileKey) {
+        return entries.get(fileKey);
+    }
+
+    private synchronized void put(String fileKey, Entry entry) {
+        Entry replaced = entries.put(fileKey, entry);
+        if (replaced != null) {
+            totalSize -= replaced.size;
+        }
+        totalSize += entry.size;
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (totalSize > maxSize && entries.size() > 1) {
+            Entry evicted = eldest.next().getValue();
+            eldest.remove();
+            totalSize -= evicted.size;
+            deleteQuietly(evicted.path);
+        }
+    }
+
+    private synchronized void remove(String fileKey, Entry entry) {
+        if (entries.remove(fileKey, entry)) {
+            totalSize -= entry.size;
+        }
+    }
+
+    private Optional<Entry> join(CompletableFuture<Optional<Entry>> fetch) {
+        try {
+            return fetch.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private String hash(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached image {}", path, e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final Path path;
+        private final long size;
+        private final String etag;
+        private final MediaType contentType;
+    }
+
+    @Getter
+    public static class CachedImage implements Closeable {
+
+        private final FileChannel channel;
+        private final long size;
+        private final String etag;
+        private final MediaType contentType;
+
+        private CachedImage(FileChannel channel, Entry entry) {
+            this.channel = channel;
+            this.size = entry.size;
+            this.etag = entry.etag;
+            this.contentType = entry.contentType;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
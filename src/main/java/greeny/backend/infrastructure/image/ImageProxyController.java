@@ -0,0 +1,113 @@
+package greeny.backend.infrastructure.image;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(value = "/api/images")
+@Tag(name = "Image", description = "Image API Document")
+public class ImageProxyController {
+
+    private static final String IMAGE_PATH_PATTERN = "/api/images/**";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    // 업로드 내용의 SHA-256 으로 정한 파일 이름과 그 축소본 이름
+    private static final Pattern CONTENT_ADDRESSED_KEY = Pattern.compile("[0-9a-f]{64}(_[a-z]+)?\\.[a-z0-9]+");
+
+    private final ImageCache imageCache;
+
+    @GetMapping("/**")
+    @Operation(summary = "Get image API", description = "저장소의 이미지를 서버의 디스크 캐시를 거쳐 내려줍니다. ETag 와 Range 헤더를 지원합니다.")
+    public void getImage(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        String fileKey = PATH_MATCHER.extractPathWithinPattern(
+                IMAGE_PATH_PATTERN,
+                (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE)
+        );
+        if (!ImageVariant.isImage(fileKey)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Optional<ImageCache.CachedImage> openedImage = imageCache.open(fileKey);
+        if (openedImage.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        try (ImageCache.CachedImage image = openedImage.get()) {
+            response.setHeader(HttpHeaders.ETAG, image.getEtag());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControlOf(fileKey).getHeaderValue());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            if (image.getEtag().equals(ifNoneMatch) || "*".equals(ifNoneMatch)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+
+            long length = image.getSize();
+            long start = 0;
+            long end = length - 1;
+            // If-Range 의 ETag 가 다르면 바뀐 파일이므로 전체를 내려준다.
+            if (range != null && (ifRange == null || image.getEtag().equals(ifRange))) {
+                try {
+                    HttpRange httpRange = HttpRange.parseRanges(range).get(0);
+                    start = httpRange.getRangeStart(length);
+                    end = httpRange.getRangeEnd(length);
+                } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            response.setContentType(image.getContentType().toString());
+            response.setContentLengthLong(end - start + 1);
+
+            FileChannel fileChannel = image.getChannel();
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long transferred = fileChannel.transferTo(position, end + 1 - position, target);
+                // 파일이 보내는 도중 줄어들면 더 읽을 수 없으므로 멈춘다.
+                if (transferred <= 0) {
+                    throw new EOFException("File ended at " + position + " before " + (end + 1));
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    // 이름이 내용의 해시인 파일만 내용이 바뀌지 않으므로 오래 캐시하고,
+    // 직접 올린 파일(uploads/{memberId}/{uuid}) 처럼 이름이 내용과 무관한 파일은 매번 ETag 로 다시 확인하게 한다.
+    private CacheControl cacheControlOf(String fileKey) {
+        if (CONTENT_ADDRESSED_KEY.matcher(fileKey).matches()) {
+            return CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic();
+        }
+        return CacheControl.noCache().cachePublic();
+    }
+}
@@ -0,0 +1,44 @@
+package greeny.backend.infrastructure.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 원본 이미지로부터 만드는 축소본 종류. 키는 "{원본 이름}_{종류}.jpg" 형식이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    THUMBNAIL(200),
+    MEDIUM(800);
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    // 긴 변의 최대 길이 (px)
+    private final int maxSize;
+
+    public String keyOf(String fileName) {
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex < 0 ? fileName : fileName.substring(0, extensionIndex);
+        return baseName + "_" + name().toLowerCase(Locale.ROOT) + ".jpg";
+    }
+
+    public static boolean isImage(String fileName) {
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex >= 0 && IMAGE_EXTENSIONS.contains(fileName.substring(extensionIndex + 1).toLowerCase(Locale.ROOT));
+    }
+
+    // 이미지가 아닌 파일은 축소본이 없다.
+    public static List<String> keysOf(String fileName) {
+        if (!isImage(fileName)) {
+            return List.of();
+        }
+        return Arrays.stream(values()).map(variant -> variant.keyOf(fileName)).collect(Collectors.toList());
+    }
+}
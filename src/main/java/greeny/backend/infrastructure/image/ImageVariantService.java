@@ -0,0 +1,154 @@
+package greeny.backend.infrastructure.image;
+
+import greeny.backend.domain.file.entity.VariantFile;
+import greeny.backend.domain.file.entity.VariantFileRepository;
+import greeny.backend.infrastructure.storage.FileStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드된 이미지의 축소본을 백그라운드에서 만든다.
+ * 디코딩한 이미지는 메모리를 많이 차지하므로 작업 스레드와 대기열 크기를 제한하고,
+ * 대기열이 가득 차면 축소본 없이 원본을 그대로 사용한다.
+ * 작은 파일이 큰 크기를 선언하는 경우가 있으므로, 디코딩 전에 선언된 크기를 확인하여 maxPixels 를 넘으면 원본만 사용한다.
+ */
+@Component
+@Slf4j
+public class ImageVariantService {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final FileStorage fileStorage;
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+
+    public ImageVariantService(
+            FileStorage fileStorage,
+            @Value("${image-variant.pool-size:2}") int poolSize,
+            @Value("${image-variant.queue-capacity:100}") int queueCapacity,
+            @Value("${image-variant.max-pixels:25000000}") long maxPixels
+    ) {
+        this.fileStorage = fileStorage;
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("image-variant-"),
+                (task, rejectedExecutor) -> log.warn("Image variant queue is full, skipping variant generation")
+        );
+    }
+
+    /**
+     * 이미지 파일이면 축소본을 만들어 저장한 뒤 onGenerated 를 실행한다.
+     */
+    public void generateAsync(String fileName, Runnable onGenerated) {
+        if (!ImageVariant.isImage(fileName)) {
+            return;
+        }
+        executor.execute(() -> generate(fileName, onGenerated));
+    }
+
+    // 커밋된 첨부 파일마다 축소본을 만들고, 완성되면 축소본 이름을 기록한다.
+    public <T extends VariantFile> void generateAsync(List<T> files, VariantFileRepository<T> repository) {
+        for (T file : files) {
+            String fileUrl = file.getFileUrl();
+            generateAsync(fileUrl, () -> repository.updateVariantUrls(
+                    file.getId(),
+                    ImageVariant.THUMBNAIL.keyOf(fileUrl),
+                    ImageVariant.MEDIUM.keyOf(fileUrl)
+            ));
+        }
+    }
+
+    private void generate(String fileName, Runnable onGenerated) {
+        try {
+            BufferedImage original;
+            try (InputStream inputStream = fileStorage.download(fileName)) {
+                original = read(fileName, inputStream);
+            }
+            if (original == null) {
+                return;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] bytes = resize(original, variant.getMaxSize());
+                fileStorage.upload(variant.keyOf(fileName), new ByteArrayInputStream(bytes), bytes.length, VARIANT_CONTENT_TYPE);
+            }
+            onGenerated.run();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants of {}", fileName, e);
+        }
+    }
+
+    // 지원하지 않는 형식이거나 선언된 크기가 maxPixels 를 넘으면 디코딩하지 않고 null 을 반환한다.
+    private BufferedImage read(String fileName, InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? Collections.emptyIterator() : ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                log.warn("Unsupported image format, skipping variants of {}", fileName);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("Image {} is {}x{}, over {} pixels, skipping variants", fileName, width, height, maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 비율을 유지한 채 긴 변을 maxSize 이하로 줄이고, 투명한 부분은 흰색으로 채운다.
+    private byte[] resize(BufferedImage original, int maxSize) throws IOException {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(original.getWidth(), original.getHeight()));
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(resized, "jpg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
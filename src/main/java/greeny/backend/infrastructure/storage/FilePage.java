@@ -0,0 +1,27 @@
+package greeny.backend.infrastructure.storage;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * 저장소 파일 목록의 한 페이지. 마지막 페이지이면 nextPageToken 이 null 이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class FilePage {
+
+    private List<FileSummary> files;
+    private String nextPageToken;
+
+    public static FilePage of(List<FileSummary> files, String nextPageToken) {
+        return FilePage.builder()
+                .files(files)
+                .nextPageToken(nextPageToken)
+                .build();
+    }
+
+    public boolean hasNext() {
+        return nextPageToken != null;
+    }
+}
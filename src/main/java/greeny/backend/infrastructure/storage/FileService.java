@@ -0,0 +1,316 @@
+package greeny.backend.infrastructure.storage;
+
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.file.application.FileDeletionService;
+import greeny.backend.domain.file.entity.ResumableUploadRepository;
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.domain.file.entity.StoredFileStatus;
+import greeny.backend.domain.file.presentation.dto.UploadUrlResponseDto;
+import greeny.backend.exception.situation.common.EmptyFileException;
+import greeny.backend.exception.situation.common.FileUploadFailureException;
+import greeny.backend.exception.situation.common.InvalidFileKeyException;
+import greeny.backend.exception.situation.common.ResumableUploadNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FileService {
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private static final String UPLOAD_KEY_PREFIX = "uploads/";
+    private static final Pattern UPLOAD_KEY_PATTERN = Pattern.compile("uploads/(\\d+)/[0-9a-f-]{36}\\.[a-z0-9]{1,10}");
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("\\.[a-z0-9]{1,10}");
+
+    private final FileStorage fileStorage;
+    private final ThreadPoolTaskExecutor fileUploadExecutor;
+    private final StoredFileRepository storedFileRepository;
+    private final ResumableUploadRepository resumableUploadRepository;
+    private final FileDeletionService fileDeletionService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 이 서버에서 전송 중인 파일 이름과 전송 결과
+    private final Map<String, CompletableFuture<Void>> inFlightUploads = new ConcurrentHashMap<>();
+
+    @Value("${file-upload.upload-url-ttl-seconds:300}")
+    private long uploadUrlTtlSeconds;
+    @Value("${file-upload.max-size:20971520}")
+    private long maxFileSize;
+
+    /**
+     * 파일 내용의 SHA-256 을 이름으로 사용하여, 같은 내용의 파일이 이미 저장되어 있으면 전송하지 않고 참조 수만 늘린다.
+     * 같은 내용을 먼저 올리던 요청이 아직 전송 중이면 기다리고, 실패했다면 직접 다시 올린다.
+     */
+    public String uploadFile(MultipartFile multipartFile) {
+        validateFileExists(multipartFile);
+        return uploadFile(multipartFile, Objects.requireNonNull(multipartFile.getOriginalFilename()), multipartFile.getSize(), multipartFile.getContentType());
+    }
+
+    // 이어 올리기로 서버에 모인 임시 파일처럼 요청 밖에서 읽을 수 있는 파일도 같은 방식으로 올린다.
+    public String uploadFile(InputStreamSource source, String originalFileName, long size, String contentType) {
+        String fileName = createFileName(source, originalFileName);
+        boolean created = storedFileRepository.acquire(fileName, size, StoredFileStatus.PENDING.name(), AuditEntity.formatDateTime()) == 1;
+        try {
+            store(fileName, source, size, contentType, created);
+        } catch (RuntimeException e) {
+            releaseQuietly(List.of(fileName));
+            throw e instanceof FileUploadFailureException ? (FileUploadFailureException) e : new FileUploadFailureException(e.getMessage());
+        }
+        return fileName;
+    }
+
+    // 이 서버에서 같은 파일을 올리고 있으면 그 결과를 기다리고, 그렇지 않으면 저장소에 없을 때만 올린다.
+    // 이름이 내용의 해시이므로 다른 서버와 동시에 올려도 같은 내용으로 덮어쓸 뿐이다.
+    private void store(String fileName, InputStreamSource source, long size, String contentType, boolean created) {
+        while (true) {
+            CompletableFuture<Void> upload = new CompletableFuture<>();
+            CompletableFuture<Void> runningUpload = inFlightUploads.putIfAbsent(fileName, upload);
+            if (runningUpload != null) {
+                if (awaitQuietly(runningUpload)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                if (created || !isStored(fileName, size)) {
+                    transfer(fileName, source, size, contentType);
+                }
+                upload.complete(null);
+                return;
+            } catch (RuntimeException e) {
+                upload.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightUploads.remove(fileName, upload);
+            }
+        }
+    }
+
+    // 전송을 마친 행이 있거나, 다른 서버가 올린 파일이 저장소에 온전히 있으면 다시 올리지 않는다.
+    private boolean isStored(String fileName, long size) {
+        if (storedFileRepository.existsByFileKeyAndStatus(fileName, StoredFileStatus.STORED)) {
+            return true;
+        }
+        if (fileStorage.findSize(fileName).orElse(-1) == size) {
+            storedFileRepository.markStored(fileName, AuditEntity.formatDateTime());
+            return true;
+        }
+        return false;
+    }
+
+    private void transfer(String fileName, InputStreamSource source, long size, String contentType) {
+        try (InputStream inputStream = source.getInputStream()) {
+            fileStorage.upload(fileName, inputStream, size, contentType);
+        } catch (IOException e) {
+            throw new FileUploadFailureException(e.getMessage());
+        }
+        storedFileRepository.markStored(fileName, AuditEntity.formatDateTime());
+    }
+
+    private boolean awaitQuietly(CompletableFuture<Void> upload) {
+        try {
+            upload.join();
+            return true;
+        } catch (CompletionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 파일들을 동시에 업로드한 뒤 업로드된 파일 이름으로 persist 를 실행한다.
+     * 업로드나 persist 가 실패하면 이미 업로드된 파일을 삭제한다.
+     */
+    public <T> T uploadFiles(List<MultipartFile> multipartFiles, Function<List<String>, T> persist) {
+        return persistOrRelease(uploadFiles(multipartFiles), persist);
+    }
+
+    public List<String> uploadFiles(List<MultipartFile> multipartFiles) {
+        if (multipartFiles == null || multipartFiles.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<CompletableFuture<String>> uploads = multipartFiles.stream()
+                .map(multipartFile -> CompletableFuture.supplyAsync(() -> uploadFile(multipartFile), fileUploadExecutor))
+                .collect(Collectors.toList());
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            releaseQuietly(uploads.stream()
+                    .filter(upload -> !upload.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList()));
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        return uploads.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 올릴 수 있도록 회원별 경로 아래의 파일 이름과 서명된 업로드 요청 정보를 발급한다.
+     * 허용된 크기를 넘는 파일은 저장소가 업로드 시점에 거절한다.
+     */
+    public List<UploadUrlResponseDto> createUploadUrls(List<String> originalFileNames, String contentType, Long memberId) {
+        Instant expiresAt = Instant.now().plus(Duration.ofSeconds(uploadUrlTtlSeconds));
+        return originalFileNames.stream()
+                .map(originalFileName -> {
+                    String fileName = createUploadFileName(originalFileName, memberId);
+                    UploadForm uploadForm = fileStorage.createUploadForm(fileName, contentType, maxFileSize, Date.from(expiresAt));
+                    return UploadUrlResponseDto.of(fileName, uploadForm, expiresAt.getEpochSecond());
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 발급한 URL 로 업로드된 파일들과 이어 올리기가 끝난 업로드들을 확인하고 참조를 가져온 뒤 persist 를 실행한다.
+     * 다른 회원의 경로이거나, 저장소에 없거나, 허용된 크기를 넘는 파일이면 InvalidFileKeyException 을 던지고,
+     * 끝나지 않았거나 다른 회원의 업로드이면 ResumableUploadNotFoundException 을 던진다.
+     */
+    public <T> T attachUploadedFiles(List<String> fileKeys, List<Long> uploadIds, Long memberId, Function<List<String>, T> persist) {
+        List<String> fileNames = acquireUploadedFiles(fileKeys, memberId);
+        try {
+            fileNames.addAll(consumeResumableUploads(uploadIds, memberId));
+        } catch (RuntimeException e) {
+            releaseQuietly(fileNames);
+            throw e;
+        }
+        return persistOrRelease(fileNames, persist);
+    }
+
+    private List<String> acquireUploadedFiles(List<String> fileKeys, Long memberId) {
+        if (fileKeys == null || fileKeys.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> fileNames = fileKeys.stream().distinct().collect(Collectors.toList());
+        fileNames.forEach(fileName -> validateUploadFileName(fileName, memberId));
+        List<CompletableFuture<Long>> sizes = fileNames.stream()
+                .map(fileName -> CompletableFuture.supplyAsync(() -> fileStorage.findSize(fileName).orElse(-1), fileUploadExecutor))
+                .collect(Collectors.toList());
+        try {
+            CompletableFuture.allOf(sizes.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+
+        String now = AuditEntity.formatDateTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < fileNames.size(); i++) {
+                long size = sizes.get(i).join();
+                if (size < 0 || size > maxFileSize) {
+                    throw new InvalidFileKeyException();
+                }
+                storedFileRepository.acquire(fileNames.get(i), size, StoredFileStatus.STORED.name(), now);
+            }
+        });
+        return fileNames;
+    }
+
+    // 끝난 업로드가 가지고 있던 참조를 그대로 넘겨받고 업로드 행은 지운다.
+    private List<String> consumeResumableUploads(List<Long> uploadIds, Long memberId) {
+        if (uploadIds == null || uploadIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Set<Long> ids = new HashSet<>(uploadIds);
+        return transactionTemplate.execute(status -> {
+            List<String> fileNames = resumableUploadRepository.findCompletedFileKeys(ids, memberId);
+            if (fileNames.size() != ids.size() || resumableUploadRepository.deleteCompleted(ids, memberId) != ids.size()) {
+                throw new ResumableUploadNotFoundException();
+            }
+            return fileNames;
+        });
+    }
+
+    private <T> T persistOrRelease(List<String> fileNames, Function<List<String>, T> persist) {
+        try {
+            return persist.apply(fileNames);
+        } catch (RuntimeException e) {
+            releaseQuietly(fileNames);
+            throw e;
+        }
+    }
+
+    // 업로드한 만큼 참조를 되돌리고, 더 이상 참조되지 않는 파일은 삭제 대기열에 넣는다.
+    private void releaseQuietly(List<String> fileNames) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> fileDeletionService.enqueue(fileNames));
+        } catch (RuntimeException e) {
+            log.warn("Failed to release uploaded files {}", fileNames, e);
+        }
+    }
+
+    private void validateFileExists(MultipartFile multipartFile) {
+        if (multipartFile.isEmpty()) {
+            throw new EmptyFileException();
+        }
+    }
+
+    private String createFileName(InputStreamSource source, String originalFileName) {
+        String extension = getFileExtension(originalFileName);
+        return hash(source).concat(extension.toLowerCase(Locale.ROOT));
+    }
+
+    // 요청에 포함된 파일을 읽어 해시를 구하므로 저장소로의 전송은 일어나지 않는다.
+    private String hash(InputStreamSource source) {
+        try (DigestInputStream inputStream = new DigestInputStream(source.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+            byte[] buffer = new byte[HASH_BUFFER_SIZE];
+            while (inputStream.read(buffer) != -1) {
+                // 읽는 동안 해시가 계산된다.
+            }
+            return HexFormat.of().formatHex(inputStream.getMessageDigest().digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new FileUploadFailureException(e.getMessage());
+        }
+    }
+
+    private String createUploadFileName(String originalFileName, Long memberId) {
+        String extension = getFileExtension(originalFileName).toLowerCase(Locale.ROOT);
+        if (!EXTENSION_PATTERN.matcher(extension).matches()) {
+            throw new StringIndexOutOfBoundsException();
+        }
+        return UPLOAD_KEY_PREFIX + memberId + "/" + UUID.randomUUID() + extension;
+    }
+
+    private void validateUploadFileName(String fileName, Long memberId) {
+        Matcher matcher = UPLOAD_KEY_PATTERN.matcher(fileName);
+        if (!matcher.matches() || !matcher.group(1).equals(String.valueOf(memberId))) {
+            throw new InvalidFileKeyException();
+        }
+    }
+
+    private String getFileExtension(String fileName) {
+        String fileExtension = fileName.substring(fileName.lastIndexOf("."));
+        if (!StringUtils.hasText(fileExtension)) {
+            throw new StringIndexOutOfBoundsException();
+        }
+        return fileExtension;
+    }
+}
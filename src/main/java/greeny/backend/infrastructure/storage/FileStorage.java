@@ -0,0 +1,41 @@
+package greeny.backend.infrastructure.storage;
+
+import java.io.InputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * 업로드된 파일을 저장하는 저장소.
+ * 기본은 S3 이며, local-storage 프로필에서는 로컬 디스크를 사용한다.
+ */
+public interface FileStorage {
+
+    void upload(String fileName, InputStream inputStream, long size, String contentType);
+
+    InputStream download(String fileName);
+
+    void delete(String fileName);
+
+    /**
+     * 여러 파일을 삭제하고, 삭제하지 못한 파일 이름을 반환한다.
+     */
+    List<String> deleteAll(List<String> fileNames);
+
+    /**
+     * 클라이언트가 저장소에 직접 올릴 수 있는 요청 정보를 만든다. 서명은 서버에서 계산하므로 저장소로의 요청은 일어나지 않는다.
+     * maxSize 보다 큰 파일은 저장소가 받지 않는다.
+     */
+    UploadForm createUploadForm(String fileName, String contentType, long maxSize, Date expiration);
+
+    /**
+     * 저장된 파일의 크기를 반환하고, 파일이 없으면 빈 값을 반환한다.
+     */
+    OptionalLong findSize(String fileName);
+
+    /**
+     * 저장된 파일을 이름순으로 최대 maxFiles 개씩 나열한다. 처음에는 pageToken 으로 null 을 넘기고,
+     * 이후에는 이전 페이지의 nextPageToken 을 넘긴다.
+     */
+    FilePage listFiles(String pageToken, int maxFiles);
+}
@@ -0,0 +1,20 @@
+package greeny.backend.infrastructure.storage;
+
+import lombok.*;
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class FileSummary {
+
+    private String fileName;
+    private Instant lastModified;
+
+    public static FileSummary of(String fileName, Instant lastModified) {
+        return FileSummary.builder()
+                .fileName(fileName)
+                .lastModified(lastModified)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package greeny.backend.infrastructure.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class FileUploadExecutorConfig {
+
+    @Value("${file-upload.pool-size:8}")
+    private int poolSize;
+
+    @Value("${file-upload.queue-capacity:64}")
+    private int queueCapacity;
+
+    // 큐가 가득 차면 요청 스레드가 직접 업로드하여 동시 업로드 수를 제한한다.
+    @Bean
+    public ThreadPoolTaskExecutor fileUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
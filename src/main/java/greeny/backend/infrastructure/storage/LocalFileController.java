@@ -0,0 +1,142 @@
+package greeny.backend.infrastructure.storage;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+@RestController
+@Profile("local-storage")
+@RequiredArgsConstructor
+@RequestMapping(value = "/api/files")
+@Tag(name = "File", description = "File API Document")
+public class LocalFileController {
+
+    // Tomcat NIO 커넥터가 sendfile 을 지원하면 커널에서 바로 소켓으로 전송하도록 넘긴다.
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String FILE_PATH_PATTERN = "/api/files/**";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final LocalFileStorage localFileStorage;
+
+    @PutMapping("/uploads/**")
+    @Operation(summary = "Upload file with signed URL API", description = "local-storage 프로필에서 발급받은 업로드 URL 로 파일을 올립니다. 요청 본문이 파일 내용이며, 서명된 최대 크기를 넘으면 413 을 반환합니다.")
+    public void upload(
+            @RequestParam long expires,
+            @RequestParam long maxSize,
+            @RequestParam String signature,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        String fileName = extractFileName(request);
+        if (!localFileStorage.isValidUploadSignature(fileName, expires, maxSize, signature)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        long length = request.getContentLengthLong();
+        if (length < 0) {
+            response.sendError(HttpServletResponse.SC_LENGTH_REQUIRED);
+            return;
+        }
+        // 본문을 읽기 전에 거절하므로 큰 파일이 디스크에 쓰이지 않는다.
+        if (length > maxSize) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        }
+        localFileStorage.upload(fileName, request.getInputStream(), length, contentType);
+    }
+
+    @GetMapping("/**")
+    @Operation(summary = "Download file API", description = "local-storage 프로필에서 저장된 파일을 내려줍니다. Range 헤더로 일부 구간만 요청할 수 있습니다.")
+    public void download(
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Path path;
+        try {
+            path = localFileStorage.resolve(extractFileName(request));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!Files.isRegularFile(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(path);
+        long start = 0;
+        long end = length - 1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (range != null) {
+            try {
+                HttpRange httpRange = HttpRange.parseRanges(range).get(0);
+                start = httpRange.getRangeStart(length);
+                end = httpRange.getRangeEnd(length);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentType(Optional.ofNullable(Files.probeContentType(path)).orElse(APPLICATION_OCTET_STREAM_VALUE));
+        response.setContentLengthLong(end - start + 1);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long transferred = fileChannel.transferTo(position, end + 1 - position, target);
+                // 파일이 보내는 도중 줄어들면 더 읽을 수 없으므로 멈춘다.
+                if (transferred <= 0) {
+                    throw new EOFException("File ended at " + position + " before " + (end + 1));
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    // 파일 이름에 경로가 포함될 수 있으므로 /api/files/ 뒤의 경로 전체를 파일 이름으로 사용한다.
+    private String extractFileName(HttpServletRequest request) {
+        return PATH_MATCHER.extractPathWithinPattern(
+                FILE_PATH_PATTERN,
+                (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE)
+        );
+    }
+}
@@ -0,0 +1,235 @@
+package greeny.backend.infrastructure.storage;
+
+import greeny.backend.exception.situation.common.FileUploadFailureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크에 파일을 저장하는 저장소. 단일 서버 배포나 부하 테스트에서 S3 대신 사용한다.
+ * 저장된 파일은 LocalFileController 를 통해 내려준다.
+ */
+@Component
+@Profile("local-storage")
+@Slf4j
+public class LocalFileStorage implements FileStorage {
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final Path root;
+    private final String baseUrl;
+    private final SecretKeySpec signingKey;
+
+    // 서명 키를 설정하지 않으면 서버가 뜰 때마다 새로 만들므로, 재시작 전에 발급한 URL 은 더 이상 쓸 수 없다.
+    public LocalFileStorage(
+            @Value("${file-storage.local.root:${java.io.tmpdir}/greeny-files}") String root,
+            @Value("${file-storage.local.base-url:http://localhost:8080}") String baseUrl,
+            @Value("${file-storage.local.signing-secret:}") String signingSecret
+    ) throws IOException {
+        this.root = Files.createDirectories(Paths.get(root)).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+        this.signingKey = new SecretKeySpec(createSecret(signingSecret), SIGNATURE_ALGORITHM);
+    }
+
+    // 같은 디렉토리의 임시 파일에 다 쓴 뒤 옮기므로, 읽는 쪽은 다 쓰지 못한 파일을 보지 않는다.
+    @Override
+    public void upload(String fileName, InputStream inputStream, long size, String contentType) {
+        Path path = resolve(fileName);
+        Path temporaryPath = null;
+        try {
+            temporaryPath = Files.createTempFile(Files.createDirectories(path.getParent()), "upload", ".tmp");
+            try (ReadableByteChannel source = Channels.newChannel(inputStream);
+                 FileChannel target = FileChannel.open(temporaryPath, StandardOpenOption.WRITE)) {
+                long position = 0;
+                while (position < size) {
+                    long transferred = target.transferFrom(source, position, size - position);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                }
+                if (position != size) {
+                    throw new FileUploadFailureException("Upload was cut off at " + position + " of " + size + " bytes");
+                }
+            }
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new FileUploadFailureException(e.getMessage());
+        } finally {
+            if (temporaryPath != null) {
+                deleteQuietly(temporaryPath);
+            }
+        }
+    }
+
+    @Override
+    public InputStream download(String fileName) {
+        try {
+            return Files.newInputStream(resolve(fileName));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void delete(String fileName) {
+        try {
+            Files.deleteIfExists(resolve(fileName));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(List<String> fileNames) {
+        List<String> failedFileNames = new ArrayList<>();
+        for (String fileName : fileNames) {
+            try {
+                Files.deleteIfExists(resolve(fileName));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to delete file {}", fileName, e);
+                failedFileNames.add(fileName);
+            }
+        }
+        return failedFileNames;
+    }
+
+    // LocalFileController 의 PUT 요청으로 올리는 URL 이며, 만료 시각과 최대 크기를 함께 서명한다.
+    @Override
+    public UploadForm createUploadForm(String fileName, String contentType, long maxSize, Date expiration) {
+        resolve(fileName);
+        long expires = expiration.toInstant().getEpochSecond();
+        try {
+            return UploadForm.put(new URL(baseUrl + "/api/files/" + fileName
+                    + "?expires=" + expires + "&maxSize=" + maxSize + "&signature=" + sign(fileName, expires, maxSize)));
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public OptionalLong findSize(String fileName) {
+        try {
+            Path path = resolve(fileName);
+            return Files.isRegularFile(path) ? OptionalLong.of(Files.size(path)) : OptionalLong.empty();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 디렉토리를 매번 처음부터 훑지만, 이전 페이지 다음 이름 중 가장 앞선 maxFiles 개만 들고 있으므로 메모리는 페이지 크기만큼만 쓴다.
+    @Override
+    public FilePage listFiles(String pageToken, int maxFiles) {
+        TreeMap<String, Instant> page = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                String fileName = root.relativize(path).toString().replace(File.separatorChar, '/');
+                if (pageToken != null && fileName.compareTo(pageToken) <= 0) {
+                    return;
+                }
+                if (page.size() == maxFiles) {
+                    if (fileName.compareTo(page.lastKey()) > 0) {
+                        return;
+                    }
+                    page.pollLastEntry();
+                }
+                page.put(fileName, getLastModified(path));
+            });
+        } catch (IOException | UncheckedIOException e) {
+            throw new IllegalStateException(e);
+        }
+        List<FileSummary> files = page.entrySet().stream()
+                .map(file -> FileSummary.of(file.getKey(), file.getValue()))
+                .collect(Collectors.toList());
+        return FilePage.of(files, page.size() == maxFiles ? page.lastKey() : null);
+    }
+
+    public boolean isValidUploadSignature(String fileName, long expires, long maxSize, String signature) {
+        if (expires < System.currentTimeMillis() / 1000) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(fileName, expires, maxSize).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    // 저장소 디렉토리 밖의 경로는 허용하지 않는다.
+    public Path resolve(String fileName) {
+        Path path = root.resolve(fileName).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid file name: " + fileName);
+        }
+        return path;
+    }
+
+    // 나열하는 동안 지워진 파일은 방금 바뀐 파일로 취급한다.
+    private Instant getLastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (NoSuchFileException e) {
+            return Instant.now();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary file {}", path, e);
+        }
+    }
+
+    private static byte[] createSecret(String signingSecret) {
+        if (!signingSecret.isEmpty()) {
+            return signingSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+    private String sign(String fileName, long expires, long maxSize) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal((fileName + "\n" + expires + "\n" + maxSize).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
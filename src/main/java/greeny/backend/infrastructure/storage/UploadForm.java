@@ -0,0 +1,35 @@
+package greeny.backend.infrastructure.storage;
+
+import lombok.*;
+import java.net.URL;
+import java.util.Map;
+
+/**
+ * 클라이언트가 저장소에 직접 파일을 올릴 때 사용할 요청 정보.
+ * PUT 이면 url 로 파일 내용을 그대로 보내고, POST 이면 fields 를 먼저 담은 multipart/form-data 의 마지막 file 필드로 보낸다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class UploadForm {
+
+    private String method;
+    private URL url;
+    private Map<String, String> fields;
+
+    public static UploadForm put(URL url) {
+        return UploadForm.builder()
+                .method("PUT")
+                .url(url)
+                .fields(Map.of())
+                .build();
+    }
+
+    public static UploadForm post(URL url, Map<String, String> fields) {
+        return UploadForm.builder()
+                .method("POST")
+                .url(url)
+                .fields(fields)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package greeny.backend.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Schema(description = "This is page whose total count may be approximate")
+public class CountedPage<T> extends PageImpl<T> {
+
+    private final boolean exactCount;
+
+    private CountedPage(List<T> content, Pageable pageable, long total, boolean exactCount) {
+        super(content, pageable, total);
+        this.exactCount = exactCount;
+    }
+
+    public static <T> CountedPage<T> of(Slice<T> slice, long total, boolean exactCount) {
+        return new CountedPage<>(slice.getContent(), slice.getPageable(), total, exactCount);
+    }
+
+    // false 이면 totalElements, totalPages 는 캐시된 근사값이다.
+    public boolean isExactCount() {
+        return exactCount;
+    }
+
+    @Override
+    public <U> CountedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CountedPage<>(
+                getContent().stream().map(converter).collect(Collectors.toList()),
+                getPageable(),
+                getTotalElements(),
+                exactCount
+        );
+    }
+}
@@ -0,0 +1,91 @@
+package greeny.backend.response;
+
+import greeny.backend.exception.situation.common.InvalidCursorException;
+import greeny.backend.exception.situation.common.UnsupportedCursorSortException;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 키셋 페이지네이션에 사용하는 불투명 커서.
+ * 마지막으로 조회한 행의 (정렬 키, id)를 Base64 URL 인코딩하여 클라이언트에 전달한다.
+ */
+public class Cursor {
+
+    private static final String DELIMITER = ",";
+
+    private final List<String> keys;
+
+    private Cursor(List<String> keys) {
+        this.keys = keys;
+    }
+
+    public static String encode(Object... keys) {
+        String joined = Arrays.stream(keys).map(String::valueOf).collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 커서는 첫 페이지를 의미한다.
+    public static Cursor decode(String cursor, int keyCount) {
+        if (!StringUtils.hasText(cursor)) {
+            return new Cursor(null);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<String> keys = Arrays.asList(decoded.split(DELIMITER, -1));
+            if (keys.size() != keyCount) {
+                throw new InvalidCursorException();
+            }
+            return new Cursor(keys);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    // 커서는 하나의 내림차순 정렬 키만 담으므로 그 외 정렬은 지원하지 않는다.
+    public static boolean isSortedBy(Sort sort, String property) {
+        Sort.Order order = sort.getOrderFor(property);
+        return order != null && order.isDescending() && sort.stream().count() == 1;
+    }
+
+    // id 내림차순으로만 조회하는 커서에 다른 정렬을 요청하면 무시하지 않고 거절한다.
+    public static void validateIdSort(Sort sort) {
+        if (sort.isSorted() && !isSortedBy(sort, "id")) {
+            throw new UnsupportedCursorSortException();
+        }
+    }
+
+    public boolean isFirst() {
+        return keys == null;
+    }
+
+    public Long getLong(int index, Long defaultValue) {
+        if (isFirst()) {
+            return defaultValue;
+        }
+        try {
+            return Long.valueOf(keys.get(index));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public Integer getInt(int index, Integer defaultValue) {
+        if (isFirst()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.valueOf(keys.get(index));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String getString(int index, String defaultValue) {
+        return isFirst() ? defaultValue : keys.get(index);
+    }
+}
@@ -0,0 +1,41 @@
+package greeny.backend.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static lombok.AccessLevel.PRIVATE;
+
+@AllArgsConstructor(access = PRIVATE)
+@Getter
+@Schema(description = "This is cursor based page without total count")
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * @param rows     size + 1 개까지 조회한 결과. size 보다 많으면 다음 페이지가 존재한다.
+     * @param cursorOf 행으로부터 다음 페이지 커서를 만드는 함수
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, String> cursorOf, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPage<>(
+                pageRows.stream().map(mapper).collect(Collectors.toList()),
+                size,
+                hasNext,
+                nextCursor
+        );
+    }
+
+    // 여러 소스를 합친 페이지처럼 다음 커서를 마지막 행 하나로 만들 수 없을 때 사용한다.
+    public static <T> CursorPage<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorPage<>(content, size, nextCursor != null, nextCursor);
+    }
+}
@@ -0,0 +1,48 @@
+package greeny.backend.response;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 같은 기준으로 이미 정렬된 여러 목록을 하나의 정렬된 목록으로 합치는 k-way merge.
+ * 각 목록의 맨 앞 원소만 힙에 두므로 limit 개를 꺼내는 데 O(limit log k) 만 든다.
+ */
+public class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    public static <T> List<T> merge(List<List<T>> sources, Comparator<? super T> comparator, int limit) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>((left, right) -> comparator.compare(left.value(), right.value()));
+        for (List<T> source : sources) {
+            if (!source.isEmpty()) {
+                heads.add(new Head<>(source, 0));
+            }
+        }
+        List<T> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.value());
+            if (head.index + 1 < head.source.size()) {
+                heads.add(new Head<>(head.source, head.index + 1));
+            }
+        }
+        return merged;
+    }
+
+    private static class Head<T> {
+        private final List<T> source;
+        private final int index;
+
+        private Head(List<T> source, int index) {
+            this.source = source;
+            this.index = index;
+        }
+
+        private T value() {
+            return source.get(index);
+        }
+    }
+}
@@ -53,4 +53,11 @@ public class SuccessMessage {
     public static final String SUCCESS_TO_WRITE_PRODUCT_REVIEW_FILE = "제품 리뷰에 파일을 첨부하는데 성공했습니다.";
     public static final String SUCCESS_TO_GET_REVIEW_LIST = "리뷰 목록을 불러오는데 성공하였습니다";
     public static final String SUCCESS_TO_GET_ALL_REVIEW_LIST = "전체 리뷰를 불러오는데 성공했습니다";
-}
\ No newline at end of file
+    public static final String SUCCESS_TO_GET_REVIEW_TIMELINE = "최신 리뷰를 불러오는데 성공했습니다";
+    public static final String SUCCESS_TO_TOGGLE_REVIEW_HELPFUL = "리뷰 추천 or 취소에 성공했습니다.";
+
+    public static final String SUCCESS_TO_CREATE_UPLOAD_URLS = "파일 업로드 URL 을 발급하는데 성공했습니다.";
+    public static final String SUCCESS_TO_CREATE_RESUMABLE_UPLOAD = "이어 올리기 업로드를 시작하는데 성공했습니다.";
+    public static final String SUCCESS_TO_GET_RESUMABLE_UPLOAD = "업로드 진행 상태를 불러오는데 성공했습니다.";
+    public static final String SUCCESS_TO_APPEND_UPLOAD_CHUNK = "파일 조각을 업로드하는데 성공했습니다.";
+}
@@ -0,0 +1,11 @@
+-- 커서 페이지네이션과 리뷰 타임라인이 정렬 순서대로 인덱스를 읽도록 인덱스를 추가한다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용한다.
+create index idx_post_like_count on Post (like_count, post_id);
+create index idx_store_wishlist_member on StoreWishlist (member_id, store_wishlist_id);
+create index idx_product_wishlist_member on ProductWishlist (member_id, product_wishlist_id);
+create index idx_store_review_store on StoreReview (store_id, store_review_id);
+create index idx_store_review_created_at on StoreReview (createdAt, store_review_id);
+create index idx_store_review_helpful on StoreReview (store_id, helpful_count, store_review_id);
+create index idx_product_review_product on ProductReview (product_id, product_review_id);
+create index idx_product_review_created_at on ProductReview (createdAt, product_review_id);
+create index idx_product_review_helpful on ProductReview (product_id, helpful_count, product_review_id);
@@ -0,0 +1,11 @@
+-- 고아 파일 정리가 삭제 후보 키를 파일 테이블에서 다시 확인할 때 전체를 훑지 않도록 파일 URL 컬럼에 인덱스를 추가한다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용한다.
+create index idx_post_file_url on PostFile (fileUrl);
+create index idx_post_file_thumbnail_url on PostFile (thumbnailUrl);
+create index idx_post_file_medium_url on PostFile (mediumUrl);
+create index idx_store_review_file_url on StoreReviewFile (fileUrl);
+create index idx_store_review_file_thumbnail_url on StoreReviewFile (thumbnailUrl);
+create index idx_store_review_file_medium_url on StoreReviewFile (mediumUrl);
+create index idx_product_review_file_url on ProductReviewFile (fileUrl);
+create index idx_product_review_file_thumbnail_url on ProductReviewFile (thumbnailUrl);
+create index idx_product_review_file_medium_url on ProductReviewFile (mediumUrl);
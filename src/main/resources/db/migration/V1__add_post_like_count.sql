@@ -0,0 +1,6 @@
+-- 게시글 좋아요 수를 매번 세는 대신 like_count 컬럼에 저장한다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용하며, 기존 게시글의 좋아요 수를 채운다.
+alter table Post add column like_count int not null default 0;
+
+update Post p
+set p.like_count = (select count(*) from PostLike pl where pl.post_id = p.post_id);
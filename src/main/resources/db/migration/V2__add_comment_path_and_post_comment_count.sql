@@ -0,0 +1,18 @@
+-- 댓글 스레드를 위한 parent_id, path 와 게시글의 댓글 수 컬럼을 추가한다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용한다.
+alter table Comment
+    add column parent_id bigint,
+    add column path varchar(255);
+
+-- 기존 댓글은 모두 최상위 댓글이므로 자기 id 를 10 자리로 맞춘 값이 경로가 된다. (Comment.assignPath 와 같은 형식)
+-- path 가 비어 있으면 커서 조회에서 빠지고 깊이 계산에 실패한다.
+update Comment
+set path = lpad(comment_id, 10, '0')
+where path is null;
+
+create index idx_comment_post_path on Comment (post_id, path);
+
+alter table Post add column comment_count int not null default 0;
+
+update Post p
+set p.comment_count = (select count(*) from Comment c where c.post_id = p.post_id);
@@ -0,0 +1,13 @@
+-- 업로드 파일을 내용 해시 키로 저장하고 참조 수를 세는 StoredFile 테이블을 만든다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용한다. 저장소 전송이 끝난 파일만 STORED 가 된다.
+create table StoredFile (
+    stored_file_id bigint not null auto_increment,
+    createdAt varchar(255),
+    updatedAt varchar(255),
+    fileKey varchar(100) not null,
+    size bigint not null,
+    refCount int not null,
+    status varchar(10) not null,
+    primary key (stored_file_id),
+    constraint unique_stored_file_key unique (fileKey)
+);
@@ -0,0 +1,42 @@
+-- 스토어/제품의 별점 집계 컬럼(RatingSummary)을 추가하고 기존 리뷰로 채운다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용한다. rating_average 는 DB 가 계산하는 생성 컬럼이다.
+alter table Store
+    add column rating_sum bigint not null default 0,
+    add column rating_count int not null default 0,
+    add column star1_count int not null default 0,
+    add column star2_count int not null default 0,
+    add column star3_count int not null default 0,
+    add column star4_count int not null default 0,
+    add column star5_count int not null default 0,
+    add column rating_average double generated always as (if(rating_count = 0, 0, rating_sum / rating_count)) stored;
+
+alter table Product
+    add column rating_sum bigint not null default 0,
+    add column rating_count int not null default 0,
+    add column star1_count int not null default 0,
+    add column star2_count int not null default 0,
+    add column star3_count int not null default 0,
+    add column star4_count int not null default 0,
+    add column star5_count int not null default 0,
+    add column rating_average double generated always as (if(rating_count = 0, 0, rating_sum / rating_count)) stored;
+
+update Store t join (
+    select store_id, sum(star) rating_sum, count(*) rating_count,
+           sum(star = 1) star1_count, sum(star = 2) star2_count, sum(star = 3) star3_count, sum(star = 4) star4_count, sum(star = 5) star5_count
+    from StoreReview group by store_id
+) r on r.store_id = t.store_id
+set t.rating_sum = r.rating_sum, t.rating_count = r.rating_count,
+    t.star1_count = r.star1_count, t.star2_count = r.star2_count, t.star3_count = r.star3_count,
+    t.star4_count = r.star4_count, t.star5_count = r.star5_count;
+
+update Product t join (
+    select product_id, sum(star) rating_sum, count(*) rating_count,
+           sum(star = 1) star1_count, sum(star = 2) star2_count, sum(star = 3) star3_count, sum(star = 4) star4_count, sum(star = 5) star5_count
+    from ProductReview group by product_id
+) r on r.product_id = t.product_id
+set t.rating_sum = r.rating_sum, t.rating_count = r.rating_count,
+    t.star1_count = r.star1_count, t.star2_count = r.star2_count, t.star3_count = r.star3_count,
+    t.star4_count = r.star4_count, t.star5_count = r.star5_count;
+
+create index idx_store_rating_average on Store (rating_average, store_id);
+create index idx_product_rating_average on Product (rating_average, product_id);
@@ -0,0 +1,6 @@
+-- 탈퇴한 회원을 바로 지우지 않고 deleted 로 표시한 뒤 MemberPurgeService 가 연관 데이터를 나누어 삭제한다.
+-- 이메일 조회는 탈퇴하지 않은 회원만 찾으므로 (email, deleted) 인덱스를 사용하고, 정리 대상은 deleted 인덱스로 찾는다.
+alter table Member
+    add column deleted bit not null default 0,
+    add index idx_member_email (email, deleted),
+    add index idx_member_deleted (deleted);
@@ -0,0 +1,13 @@
+-- 저장소 삭제를 커밋 후 재시도할 수 있도록 삭제 대상 키를 쌓아 두는 FileDeletion 테이블을 만든다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용한다.
+create table FileDeletion (
+    file_deletion_id bigint not null auto_increment,
+    createdAt varchar(255),
+    updatedAt varchar(255),
+    fileKey varchar(255) not null,
+    originalKey varchar(255),
+    retryCount int not null default 0,
+    primary key (file_deletion_id)
+);
+
+create index idx_file_deletion_retry_count on FileDeletion (retryCount, file_deletion_id);
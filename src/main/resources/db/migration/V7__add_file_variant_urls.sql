@@ -0,0 +1,13 @@
+-- 이미지 썸네일/중간 크기 변환본의 URL 컬럼을 추가한다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용한다. 기존 파일은 변환본이 없으므로 null 로 둔다.
+alter table PostFile
+    add column thumbnailUrl varchar(255),
+    add column mediumUrl varchar(255);
+
+alter table StoreReviewFile
+    add column thumbnailUrl varchar(255),
+    add column mediumUrl varchar(255);
+
+alter table ProductReviewFile
+    add column thumbnailUrl varchar(255),
+    add column mediumUrl varchar(255);
@@ -0,0 +1,16 @@
+-- 이어 올리기 업로드의 진행 상태를 저장하는 ResumableUpload 테이블을 만든다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용한다.
+create table ResumableUpload (
+    resumable_upload_id bigint not null auto_increment,
+    createdAt varchar(255),
+    updatedAt varchar(255),
+    uploader_id bigint not null,
+    fileName varchar(255) not null,
+    contentType varchar(255) not null,
+    length bigint not null,
+    uploadedLength bigint not null default 0,
+    fileKey varchar(100),
+    primary key (resumable_upload_id)
+);
+
+create index idx_resumable_upload_updated_at on ResumableUpload (updatedAt);
@@ -0,0 +1,28 @@
+-- 리뷰 "도움돼요" 수를 helpful_count 컬럼에 저장하고, 중복 투표를 막는 투표 테이블을 만든다.
+-- prod 는 ddl-auto: none 이므로 Flyway 가 서버 시작 시 적용한다.
+alter table StoreReview add column helpful_count int not null default 0;
+alter table ProductReview add column helpful_count int not null default 0;
+
+create table StoreReviewHelpful (
+    store_review_helpful_id bigint not null auto_increment,
+    createdAt varchar(255),
+    updatedAt varchar(255),
+    store_review_id bigint not null,
+    voter_id bigint not null,
+    primary key (store_review_helpful_id),
+    constraint unique_store_review_voter unique (store_review_id, voter_id),
+    constraint fk_store_review_helpful_review foreign key (store_review_id) references StoreReview (store_review_id),
+    constraint fk_store_review_helpful_voter foreign key (voter_id) references Member (member_id)
+);
+
+create table ProductReviewHelpful (
+    product_review_helpful_id bigint not null auto_increment,
+    createdAt varchar(255),
+    updatedAt varchar(255),
+    product_review_id bigint not null,
+    voter_id bigint not null,
+    primary key (product_review_helpful_id),
+    constraint unique_product_review_voter unique (product_review_id, voter_id),
+    constraint fk_product_review_helpful_review foreign key (product_review_id) references ProductReview (product_review_id),
+    constraint fk_product_review_helpful_voter foreign key (voter_id) references Member (member_id)
+);
@@ -0,0 +1,142 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.comment.application.CommentService;
+import greeny.backend.domain.comment.entity.Comment;
+import greeny.backend.domain.comment.entity.CommentRepository;
+import greeny.backend.domain.comment.presentation.dto.WriteCommentRequestDto;
+import greeny.backend.domain.member.entity.Member;
+import greeny.backend.domain.member.entity.MemberRepository;
+import greeny.backend.domain.member.entity.Role;
+import greeny.backend.domain.post.entity.Post;
+import greeny.backend.domain.post.entity.PostRepository;
+import greeny.backend.exception.situation.comment.CommentNotFoundException;
+import greeny.backend.exception.situation.member.MemberNotEqualsException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import javax.persistence.EntityManagerFactory;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentServiceTest {
+
+    @Autowired
+    CommentService commentService;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        commentRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void editCommentInOneStatement() {
+        // Given
+        Member savedWriter = memberRepository.save(createMember("writer@naver.com"));
+        Post savedPost = postRepository.save(createPost(savedWriter));
+        Comment savedComment = writeComment(savedPost, savedWriter);
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // When
+        commentService.editCommentInfo(savedComment.getId(), createRequest("수정된 댓글"), savedWriter);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(commentRepository.findById(savedComment.getId()).orElseThrow().getContent()).isEqualTo("수정된 댓글");
+    }
+
+    @Test
+    void editCommentOfOtherMemberOrMissingComment() {
+        // Given
+        Member savedWriter = memberRepository.save(createMember("writer@naver.com"));
+        Member savedOther = memberRepository.save(createMember("other@naver.com"));
+        Post savedPost = postRepository.save(createPost(savedWriter));
+        Comment savedComment = writeComment(savedPost, savedWriter);
+
+        // When, Then
+        assertThatThrownBy(() -> commentService.editCommentInfo(savedComment.getId(), createRequest("수정된 댓글"), savedOther))
+                .isInstanceOf(MemberNotEqualsException.class);
+        assertThatThrownBy(() -> commentService.editCommentInfo(-1L, createRequest("수정된 댓글"), savedWriter))
+                .isInstanceOf(CommentNotFoundException.class);
+        assertThat(commentRepository.findById(savedComment.getId()).orElseThrow().getContent()).isEqualTo("댓글");
+    }
+
+    @Test
+    void deleteCommentInTwoStatements() {
+        // Given
+        Member savedWriter = memberRepository.save(createMember("writer@naver.com"));
+        Post savedPost = postRepository.save(createPost(savedWriter));
+        Comment savedComment = writeComment(savedPost, savedWriter);
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // When
+        commentService.deleteComment(savedComment.getId(), savedWriter);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(commentRepository.existsById(savedComment.getId())).isFalse();
+        assertThat(postRepository.findById(savedPost.getId()).orElseThrow().getCommentCount()).isZero();
+    }
+
+    @Test
+    void deleteCommentOfOtherMemberKeepsCommentCount() {
+        // Given
+        Member savedWriter = memberRepository.save(createMember("writer@naver.com"));
+        Member savedOther = memberRepository.save(createMember("other@naver.com"));
+        Post savedPost = postRepository.save(createPost(savedWriter));
+        Comment savedComment = writeComment(savedPost, savedWriter);
+
+        // When, Then
+        assertThatThrownBy(() -> commentService.deleteComment(savedComment.getId(), savedOther))
+                .isInstanceOf(MemberNotEqualsException.class);
+        assertThat(commentRepository.existsById(savedComment.getId())).isTrue();
+        assertThat(postRepository.findById(savedPost.getId()).orElseThrow().getCommentCount()).isEqualTo(1);
+    }
+
+    Comment writeComment(Post post, Member writer) {
+        commentService.writeComment(post.getId(), null, createRequest("댓글"), writer);
+        return commentRepository.findAllByPostIdOrderByPathAsc(post.getId()).get(0);
+    }
+
+    Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    WriteCommentRequestDto createRequest(String content) {
+        return WriteCommentRequestDto.builder()
+                .content(content)
+                .build();
+    }
+
+    Member createMember(String email)  {
+        return Member.builder()
+                .email(email)
+                .role(Role.ROLE_USER)
+                .build();
+    }
+
+    Post createPost(Member writer) {
+        return Post.builder()
+                .writer(writer)
+                .title("안녕")
+                .content("반가워!")
+                .hits(0)
+                .hasPostFile(false)
+                .build();
+    }
+}
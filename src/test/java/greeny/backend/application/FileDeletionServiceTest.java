@@ -0,0 +1,115 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.file.application.FileDeletionService;
+import greeny.backend.domain.file.entity.FileDeletion;
+import greeny.backend.domain.file.entity.FileDeletionRepository;
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.domain.file.entity.StoredFileStatus;
+import greeny.backend.infrastructure.storage.FileStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class FileDeletionServiceTest {
+
+    // file-deletion.max-retries 기본값
+    private static final int MAX_RETRIES = 10;
+
+    @Autowired
+    FileDeletionService fileDeletionService;
+    @Autowired
+    FileDeletionRepository fileDeletionRepository;
+    @Autowired
+    StoredFileRepository storedFileRepository;
+    @MockBean
+    FileStorage fileStorage;
+
+    @AfterEach
+    void cleanUp() {
+        fileDeletionRepository.deleteAllInBatch();
+        storedFileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void drainInBatchesOfThousandKeys() {
+        // Given
+        fileDeletionRepository.saveAll(createFileDeletions(1500));
+        when(fileStorage.deleteAll(anyList())).thenReturn(List.of());
+
+        // When
+        fileDeletionService.drain();
+
+        // Then
+        verify(fileStorage, times(2)).deleteAll(anyList());
+        assertThat(fileDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    void keepFailedKeysForRetry() {
+        // Given
+        fileDeletionRepository.saveAll(createFileDeletions(3));
+        when(fileStorage.deleteAll(anyList())).thenReturn(List.of("file1.png"));
+
+        // When
+        fileDeletionService.drain();
+
+        // Then
+        List<FileDeletion> remaining = fileDeletionRepository.findAll();
+        assertThat(remaining).extracting(FileDeletion::getFileKey).containsExactly("file1.png");
+        assertThat(remaining.get(0).getRetryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void purgeKeysThatReachedMaxRetries() {
+        // Given
+        fileDeletionRepository.saveAll(createFileDeletions(2));
+        when(fileStorage.deleteAll(anyList())).thenReturn(List.of("file0.png", "file1.png"));
+        for (int run = 0; run < MAX_RETRIES; run++) {
+            fileDeletionService.drain();
+        }
+        assertThat(fileDeletionRepository.findAll()).extracting(FileDeletion::getRetryCount).containsOnly(MAX_RETRIES);
+
+        // When
+        fileDeletionService.drain();
+
+        // Then
+        verify(fileStorage, times(MAX_RETRIES)).deleteAll(anyList());
+        assertThat(fileDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    void keepVariantsOfReferencedOriginal() {
+        // Given
+        storedFileRepository.acquire("reused.png", 1, StoredFileStatus.STORED.name(), AuditEntity.formatDateTime());
+        fileDeletionRepository.saveAll(List.of(
+                FileDeletion.ofVariant("reused_thumbnail.jpg", "reused.png"),
+                FileDeletion.ofVariant("deleted_thumbnail.jpg", "deleted.png")
+        ));
+        when(fileStorage.deleteAll(anyList())).thenReturn(List.of());
+
+        // When
+        fileDeletionService.drain();
+
+        // Then
+        verify(fileStorage).deleteAll(List.of("deleted_thumbnail.jpg"));
+        assertThat(fileDeletionRepository.count()).isZero();
+    }
+
+    private List<FileDeletion> createFileDeletions(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> FileDeletion.of("file" + i + ".png"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,70 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.file.application.FileReconciliationService;
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.infrastructure.image.ImageVariant;
+import greeny.backend.infrastructure.storage.FileService;
+import greeny.backend.infrastructure.storage.LocalFileStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "local-storage"})
+class FileReconciliationServiceTest {
+
+    @Autowired
+    FileReconciliationService fileReconciliationService;
+    @Autowired
+    FileService fileService;
+    @Autowired
+    LocalFileStorage localFileStorage;
+    @Autowired
+    StoredFileRepository storedFileRepository;
+
+    @AfterEach
+    void cleanUp() {
+        storedFileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deleteOnlyOrphansOlderThanGracePeriod() throws Exception {
+        // Given
+        String referencedKey = fileService.uploadFile(new MockMultipartFile("file", "image.png", "image/png", UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8)));
+        String variantKey = ImageVariant.THUMBNAIL.keyOf(referencedKey);
+        String oldOrphanKey = "orphans/" + UUID.randomUUID() + ".png";
+        String newOrphanKey = "orphans/" + UUID.randomUUID() + ".png";
+        upload(variantKey);
+        upload(oldOrphanKey);
+        upload(newOrphanKey);
+        FileTime twoDaysAgo = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        for (String fileKey : new String[]{referencedKey, variantKey, oldOrphanKey}) {
+            Files.setLastModifiedTime(localFileStorage.resolve(fileKey), twoDaysAgo);
+        }
+
+        // When
+        fileReconciliationService.reconcile();
+
+        // Then
+        assertThat(localFileStorage.findSize(referencedKey)).isPresent();
+        assertThat(localFileStorage.findSize(variantKey)).isPresent();
+        assertThat(localFileStorage.findSize(newOrphanKey)).isPresent();
+        assertThat(localFileStorage.findSize(oldOrphanKey)).isEmpty();
+    }
+
+    private void upload(String fileKey) {
+        byte[] content = fileKey.getBytes(StandardCharsets.UTF_8);
+        localFileStorage.upload(fileKey, new ByteArrayInputStream(content), content.length, "image/png");
+    }
+}
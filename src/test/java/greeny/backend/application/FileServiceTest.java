@@ -0,0 +1,143 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.exception.situation.common.FileUploadFailureException;
+import greeny.backend.infrastructure.storage.FileService;
+import greeny.backend.infrastructure.storage.FileStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "local-storage"})
+class FileServiceTest {
+
+    private static final String FAILING_CONTENT_TYPE = "text/fail";
+
+    @Autowired
+    FileService fileService;
+    @Autowired
+    StoredFileRepository storedFileRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @SpyBean
+    FileStorage fileStorage;
+
+    @AfterEach
+    void cleanUp() {
+        storedFileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void uploadOnExecutorThenPersistInShortTransaction() {
+        // Given
+        Queue<String> uploadThreads = new ConcurrentLinkedQueue<>();
+        AtomicBoolean uploadedInTransaction = new AtomicBoolean();
+        AtomicInteger uploads = new AtomicInteger();
+        doAnswer(invocation -> {
+            uploadThreads.add(Thread.currentThread().getName());
+            uploadedInTransaction.compareAndSet(false, TransactionSynchronizationManager.isActualTransactionActive());
+            invocation.callRealMethod();
+            uploads.incrementAndGet();
+            return null;
+        }).when(fileStorage).upload(anyString(), any(), anyLong(), any());
+
+        // When
+        List<String> fileNames = fileService.uploadFiles(createFiles("persist-1", "persist-2", "persist-3"), uploadedFileNames -> {
+            assertThat(uploads.get()).isEqualTo(3);
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            return transactionTemplate.execute(status -> {
+                assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+                return uploadedFileNames;
+            });
+        });
+
+        // Then
+        assertThat(fileNames).hasSize(3);
+        assertThat(uploadThreads).hasSize(3).allMatch(threadName -> threadName.startsWith("file-upload-"));
+        assertThat(uploadedInTransaction).isFalse();
+    }
+
+    @Test
+    void deleteUploadedFilesWhenAnotherUploadFails() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            if (FAILING_CONTENT_TYPE.equals(invocation.getArgument(3))) {
+                throw new IllegalStateException("upload failed");
+            }
+            return invocation.callRealMethod();
+        }).when(fileStorage).upload(anyString(), any(), anyLong(), any());
+        List<MultipartFile> multipartFiles = List.of(
+                createFile("uploaded-1", "text/plain"),
+                createFile("uploaded-2", "text/plain"),
+                createFile("failed", FAILING_CONTENT_TYPE)
+        );
+
+        // When
+        assertThatThrownBy(() -> fileService.uploadFiles(multipartFiles, fileNames -> fileNames))
+                .isInstanceOf(FileUploadFailureException.class);
+
+        // Then
+        assertDeleted(fileNameOf("uploaded-1"));
+        assertDeleted(fileNameOf("uploaded-2"));
+        assertDeleted(fileNameOf("failed"));
+    }
+
+    @Test
+    void deleteUploadedFilesWhenPersistFails() throws Exception {
+        // When
+        assertThatThrownBy(() -> fileService.uploadFiles(createFiles("rollback-1", "rollback-2"), fileNames -> {
+            throw new IllegalStateException("persist failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertDeleted(fileNameOf("rollback-1"));
+        assertDeleted(fileNameOf("rollback-2"));
+    }
+
+    // 삭제는 커밋 후 백그라운드에서 일어나므로 잠시 기다린다.
+    private void assertDeleted(String fileName) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && fileStorage.findSize(fileName).isPresent(); attempt++) {
+            Thread.sleep(100);
+        }
+        assertThat(fileStorage.findSize(fileName)).isEmpty();
+        assertThat(storedFileRepository.findFileKeysByFileKeyIn(List.of(fileName))).isEmpty();
+    }
+
+    private String fileNameOf(String content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8))) + ".txt";
+    }
+
+    private List<MultipartFile> createFiles(String... contents) {
+        return Arrays.stream(contents)
+                .map(content -> createFile(content, "text/plain"))
+                .collect(Collectors.toList());
+    }
+
+    private MultipartFile createFile(String content, String contentType) {
+        return new MockMultipartFile("file", "text.txt", contentType, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package greeny.backend.application;
+
+import greeny.backend.exception.situation.common.IdempotencyKeyReusedException;
+import greeny.backend.infrastructure.idempotency.IdempotencyStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class IdempotencyStoreTest {
+
+    @Autowired
+    IdempotencyStore idempotencyStore;
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentDuplicatesWaitForFirstExecution() throws Exception {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        int numberOfRequest = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfRequest);
+        List<Callable<String>> requests = new ArrayList<>();
+        for (int i = 0; i < numberOfRequest; i++) {
+            requests.add(() -> {
+                authenticate("writer@greeny.com");
+                return idempotencyStore.execute("post", "concurrent-key", "body", () -> {
+                    sleep();
+                    return "response-" + executions.incrementAndGet();
+                });
+            });
+        }
+
+        // When
+        List<Future<String>> responses = executorService.invokeAll(requests);
+        executorService.shutdown();
+
+        // Then
+        for (Future<String> response : responses) {
+            assertThat(response.get()).isEqualTo("response-1");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void retryReturnsFirstResponseOnlyForSameMemberAndSuccess() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        authenticate("writer@greeny.com");
+        assertThatThrownBy(() -> idempotencyStore.execute("post", "retry-key", "body", () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        // When
+        String first = idempotencyStore.execute("post", "retry-key", "body", () -> "response-" + executions.incrementAndGet());
+        String retried = idempotencyStore.execute("post", "retry-key", "body", () -> "response-" + executions.incrementAndGet());
+        authenticate("other@greeny.com");
+        String otherMember = idempotencyStore.execute("post", "retry-key", "body", () -> "response-" + executions.incrementAndGet());
+
+        // Then
+        assertThat(first).isEqualTo("response-2");
+        assertThat(retried).isEqualTo("response-2");
+        assertThat(otherMember).isEqualTo("response-3");
+    }
+
+    @Test
+    void rejectSameKeyWithDifferentBody() {
+        // Given
+        authenticate("writer@greeny.com");
+        String first = idempotencyStore.execute("post", "reused-key", "first body", () -> "first response");
+
+        // When & Then
+        assertThatThrownBy(() -> idempotencyStore.execute("post", "reused-key", "second body", () -> "second response"))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+        assertThat(idempotencyStore.execute("post", "reused-key", "first body", () -> "second response")).isEqualTo(first);
+    }
+
+    private void authenticate(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(email, null));
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
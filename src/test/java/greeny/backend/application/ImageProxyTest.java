@@ -0,0 +1,149 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.infrastructure.image.ImageCache;
+import greeny.backend.infrastructure.storage.FileService;
+import greeny.backend.infrastructure.storage.FileStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "image-cache.max-size=15")
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "local-storage"})
+class ImageProxyTest {
+
+    @Autowired
+    ImageCache imageCache;
+    @Autowired
+    FileService fileService;
+    @SpyBean
+    FileStorage fileStorage;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    StoredFileRepository storedFileRepository;
+
+    @AfterEach
+    void cleanUp() {
+        storedFileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentMissesShareOneFetch() throws Exception {
+        // Given
+        String fileKey = fileService.uploadFile(createImage("concurrent"));
+        int numberOfRequest = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfRequest);
+        List<Callable<Long>> requests = new ArrayList<>();
+        for (int i = 0; i < numberOfRequest; i++) {
+            requests.add(() -> {
+                try (ImageCache.CachedImage image = imageCache.open(fileKey).orElseThrow()) {
+                    return image.getSize();
+                }
+            });
+        }
+
+        // When
+        List<Future<Long>> sizes = executorService.invokeAll(requests);
+        executorService.shutdown();
+
+        // Then
+        for (Future<Long> size : sizes) {
+            assertThat(size.get()).isEqualTo("concurrent".length());
+        }
+        verify(fileStorage, times(1)).download(fileKey);
+    }
+
+    @Test
+    void serveWithEtagAndRange() throws Exception {
+        // Given
+        String fileKey = fileService.uploadFile(createImage("0123456789"));
+        String etag = mockMvc.perform(get("/api/images/" + fileKey))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/images/" + fileKey).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/images/" + fileKey).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+        mockMvc.perform(get("/api/images/missing.png"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void evictLeastRecentlyUsedImageOverMaxSize() throws Exception {
+        // Given
+        String firstFileKey = fileService.uploadFile(createImage("first-file"));
+        String secondFileKey = fileService.uploadFile(createImage("secondfile"));
+
+        // When
+        imageCache.open(firstFileKey).orElseThrow().close();
+        imageCache.open(secondFileKey).orElseThrow().close();
+        imageCache.open(firstFileKey).orElseThrow().close();
+
+        // Then
+        verify(fileStorage, times(2)).download(firstFileKey);
+        verify(fileStorage, times(1)).download(secondFileKey);
+    }
+
+    @Test
+    void notServeEvictedImage() throws Exception {
+        // Given
+        String fileKey = fileService.uploadFile(createImage("evicted"));
+        imageCache.open(fileKey).orElseThrow().close();
+
+        // When
+        fileStorage.deleteAll(List.of(fileKey));
+        imageCache.evict(fileKey);
+
+        // Then
+        assertThat(imageCache.open(fileKey)).isEmpty();
+    }
+
+    @Test
+    void cacheLongOnlyContentAddressedImage() throws Exception {
+        // Given
+        String contentAddressedKey = fileService.uploadFile(createImage("hashed"));
+        String uploadedKey = "uploads/1/" + UUID.randomUUID() + ".png";
+        byte[] content = "direct".getBytes(StandardCharsets.UTF_8);
+        fileStorage.upload(uploadedKey, new ByteArrayInputStream(content), content.length, "image/png");
+
+        // When & Then
+        mockMvc.perform(get("/api/images/" + contentAddressedKey))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public"));
+        mockMvc.perform(get("/api/images/" + uploadedKey))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"));
+    }
+
+    private MockMultipartFile createImage(String content) {
+        return new MockMultipartFile("file", "image.png", "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.infrastructure.image.ImageVariant;
+import greeny.backend.infrastructure.image.ImageVariantService;
+import greeny.backend.infrastructure.storage.FileService;
+import greeny.backend.infrastructure.storage.LocalFileStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"dev", "local-storage"})
+class ImageVariantServiceTest {
+
+    @Autowired
+    FileService fileService;
+    @Autowired
+    ImageVariantService imageVariantService;
+    @Autowired
+    LocalFileStorage localFileStorage;
+    @Autowired
+    StoredFileRepository storedFileRepository;
+
+    @AfterEach
+    void cleanUp() {
+        storedFileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void generateThumbnailAndMediumVariants() throws Exception {
+        // Given
+        String fileName = fileService.uploadFile(createImage(1600, 1200));
+        CountDownLatch generated = new CountDownLatch(1);
+
+        // When
+        imageVariantService.generateAsync(fileName, generated::countDown);
+
+        // Then
+        assertThat(generated.await(10, TimeUnit.SECONDS)).isTrue();
+        BufferedImage thumbnail = ImageIO.read(localFileStorage.resolve(ImageVariant.THUMBNAIL.keyOf(fileName)).toFile());
+        BufferedImage medium = ImageIO.read(localFileStorage.resolve(ImageVariant.MEDIUM.keyOf(fileName)).toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(150);
+        assertThat(medium.getWidth()).isEqualTo(800);
+        assertThat(medium.getHeight()).isEqualTo(600);
+    }
+
+    @Test
+    void skipVariantsWhenDeclaredSizeIsTooLarge() throws Exception {
+        // Given
+        String fileName = fileService.uploadFile(createImageDeclaring(100_000, 100_000));
+        CountDownLatch generated = new CountDownLatch(1);
+
+        // When
+        imageVariantService.generateAsync(fileName, generated::countDown);
+
+        // Then
+        assertThat(generated.await(2, TimeUnit.SECONDS)).isFalse();
+        assertThat(Files.exists(localFileStorage.resolve(ImageVariant.THUMBNAIL.keyOf(fileName)))).isFalse();
+        assertThat(Files.exists(localFileStorage.resolve(ImageVariant.MEDIUM.keyOf(fileName)))).isFalse();
+    }
+
+    private MockMultipartFile createImage(int width, int height) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", outputStream);
+        return new MockMultipartFile("file", "image.png", "image/png", outputStream.toByteArray());
+    }
+
+    // 1x1 PNG 의 IHDR 에 적힌 크기만 바꾸고 CRC 를 다시 계산한다.
+    private MockMultipartFile createImageDeclaring(int width, int height) throws Exception {
+        byte[] png = createImage(1, 1).getBytes();
+        ByteBuffer.wrap(png, 16, 8).putInt(width).putInt(height);
+        CRC32 crc = new CRC32();
+        crc.update(png, 12, 17);
+        ByteBuffer.wrap(png, 29, 4).putInt((int) crc.getValue());
+        return new MockMultipartFile("file", "bomb.png", "image/png", png);
+    }
+}
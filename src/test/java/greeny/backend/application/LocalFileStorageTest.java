@@ -0,0 +1,175 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.file.application.FileDeletionService;
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.domain.file.entity.StoredFileStatus;
+import greeny.backend.domain.file.presentation.dto.UploadUrlResponseDto;
+import greeny.backend.exception.situation.common.InvalidFileKeyException;
+import greeny.backend.infrastructure.storage.FileService;
+import greeny.backend.infrastructure.storage.LocalFileStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"dev", "local-storage"})
+class LocalFileStorageTest {
+
+    private static final String CONTENT = "0123456789";
+
+    @Autowired
+    FileService fileService;
+    @Autowired
+    LocalFileStorage localFileStorage;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    StoredFileRepository storedFileRepository;
+    @Autowired
+    FileDeletionService fileDeletionService;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        storedFileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void uploadAndDownloadWithRange() throws Exception {
+        // Given
+        String fileName = fileService.uploadFile(createFile());
+
+        // When & Then
+        mockMvc.perform(get("/api/files/" + fileName))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().string(CONTENT));
+        mockMvc.perform(get("/api/files/" + fileName).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+        mockMvc.perform(get("/api/files/" + fileName).header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable());
+    }
+
+    @Test
+    void deleteUploadedFiles() {
+        // Given
+        String fileName = fileService.uploadFile(createFile());
+
+        // When
+        List<String> failedFileNames = localFileStorage.deleteAll(List.of(fileName));
+
+        // Then
+        assertThat(failedFileNames).isEmpty();
+        assertThat(Files.exists(localFileStorage.resolve(fileName))).isFalse();
+    }
+
+    @Test
+    void deduplicateSameContentUntilLastReferenceIsReleased() {
+        // Given
+        String fileName = fileService.uploadFile(createFile());
+        String duplicatedFileName = fileService.uploadFile(createFile());
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> fileDeletionService.enqueue(List.of(fileName)));
+
+        // Then
+        assertThat(duplicatedFileName).isEqualTo(fileName);
+        assertThat(storedFileRepository.findFileKeysByFileKeyIn(List.of(fileName))).containsExactly(fileName);
+        assertThat(Files.exists(localFileStorage.resolve(fileName))).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> fileDeletionService.enqueue(List.of(fileName)));
+        assertThat(storedFileRepository.findFileKeysByFileKeyIn(List.of(fileName))).isEmpty();
+    }
+
+    @Test
+    void uploadAgainWhenSameContentWasNotStored() throws Exception {
+        // Given
+        String fileName = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT.getBytes(StandardCharsets.UTF_8))) + ".txt";
+        storedFileRepository.acquire(fileName, CONTENT.length(), StoredFileStatus.PENDING.name(), AuditEntity.formatDateTime());
+
+        // When
+        String uploadedFileName = fileService.uploadFile(createFile());
+
+        // Then
+        assertThat(uploadedFileName).isEqualTo(fileName);
+        assertThat(Files.readString(localFileStorage.resolve(fileName))).isEqualTo(CONTENT);
+        assertThat(storedFileRepository.existsByFileKeyAndStatus(fileName, StoredFileStatus.STORED)).isTrue();
+    }
+
+    @Test
+    void uploadWithSignedUrlAndAttachOnlyOwnFiles() throws Exception {
+        // Given
+        Long memberId = 1L;
+        UploadUrlResponseDto uploadUrl = fileService.createUploadUrls(List.of("photo.PNG"), "image/png", memberId).get(0);
+        URI uri = URI.create(uploadUrl.getUploadUrl());
+
+        // When
+        mockMvc.perform(put(uri.getPath() + "?" + uri.getQuery().replace("signature=", "signature=x")).content(CONTENT))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put(uri.getPath() + "?" + uri.getQuery()).contentType("image/png").content(CONTENT))
+                .andExpect(status().isOk());
+
+        // Then
+        String fileKey = uploadUrl.getFileKey();
+        assertThat(fileKey).startsWith("uploads/" + memberId + "/").endsWith(".png");
+        assertThatThrownBy(() -> fileService.attachUploadedFiles(List.of(fileKey), null, 2L, Function.identity()))
+                .isInstanceOf(InvalidFileKeyException.class);
+        String missingFileKey = fileService.createUploadUrls(List.of("missing.png"), "image/png", memberId).get(0).getFileKey();
+        assertThatThrownBy(() -> fileService.attachUploadedFiles(List.of(missingFileKey), null, memberId, Function.identity()))
+                .isInstanceOf(InvalidFileKeyException.class);
+        assertThat(fileService.attachUploadedFiles(List.of(fileKey), null, memberId, Function.identity())).containsExactly(fileKey);
+        assertThat(storedFileRepository.findFileKeysByFileKeyIn(List.of(fileKey))).containsExactly(fileKey);
+        mockMvc.perform(get("/api/files/" + fileKey))
+                .andExpect(status().isOk())
+                .andExpect(content().string(CONTENT));
+    }
+
+    @Test
+    void rejectSignedUploadOverMaxSize() throws Exception {
+        // Given
+        String fileName = "uploads/1/" + UUID.randomUUID() + ".png";
+        Date expiration = Date.from(Instant.now().plusSeconds(60));
+        URI uri = localFileStorage.createUploadForm(fileName, "image/png", CONTENT.length() - 1, expiration).getUrl().toURI();
+
+        // When & Then
+        mockMvc.perform(put(uri.getPath() + "?" + uri.getQuery()).contentType("image/png").content(CONTENT))
+                .andExpect(status().isPayloadTooLarge());
+        String raisedQuery = uri.getQuery().replace("maxSize=" + (CONTENT.length() - 1), "maxSize=" + CONTENT.length());
+        mockMvc.perform(put(uri.getPath() + "?" + raisedQuery).contentType("image/png").content(CONTENT))
+                .andExpect(status().isForbidden());
+        assertThat(localFileStorage.findSize(fileName)).isEmpty();
+    }
+
+    private MockMultipartFile createFile() {
+        return new MockMultipartFile("file", "text.txt", "text/plain", CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+}
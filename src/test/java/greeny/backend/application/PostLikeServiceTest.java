@@ -11,15 +11,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @Slf4j
 class PostLikeServiceTest {
 
+    private static final int MAX_RETRIES = 3;
+
     @Autowired
     PostLikeService postLikeService;
     @Autowired
@@ -57,9 +64,74 @@ class PostLikeServiceTest {
 
         // Then
         assertThat(postLikeRepository.existsByPostAndLiker(savedPost, savedLiker)).isTrue();
-        memberRepository.deleteAll();
+        postLikeRepository.deleteAll();
         postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void likeThroughputWithConcurrentLikers() throws InterruptedException {
+        // Given
+        Member savedWriter = memberRepository.save(createMember("writer@naver.com"));
+        Post savedPost = postRepository.save(createPost(savedWriter));
+        int numberOfLiker = 120;
+        List<Member> savedLikers = new ArrayList<>();
+        for (int i = 0; i < numberOfLiker; i++) {
+            savedLikers.add(memberRepository.save(createMember("liker" + i + "@naver.com")));
+        }
+
+        // When
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfLiker);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch countDownLatch = new CountDownLatch(numberOfLiker);
+        AtomicInteger deadlocks = new AtomicInteger();
+        AtomicInteger retries = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        for (Member savedLiker : savedLikers) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    likeWithRetry(savedPost.getId(), savedLiker, deadlocks, retries);
+
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+
+                } finally {
+                    countDownLatch.countDown();
+                }
+            });
+        }
+        long start = System.nanoTime();
+        startLatch.countDown();
+        countDownLatch.await();
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        executorService.shutdown();
+        log.info("{} concurrent likes in {} ms ({} likes/s), deadlocks={}, retries={}",
+                numberOfLiker, elapsedMillis, numberOfLiker * 1000L / elapsedMillis, deadlocks.get(), retries.get());
+
+        // Then
+        assertThat(failures.get()).isZero();
+        assertThat(postRepository.findById(savedPost.getId()).orElseThrow().getLikes()).isEqualTo(numberOfLiker);
+        assertThat(postLikeRepository.count()).isEqualTo(numberOfLiker);
         postLikeRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    // 잠금 충돌로 실패한 요청은 다시 시도하고, 교착 상태와 재시도 횟수를 센다.
+    private void likeWithRetry(Long postId, Member liker, AtomicInteger deadlocks, AtomicInteger retries) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                postLikeService.like(postId, liker);
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                deadlocks.incrementAndGet();
+                if (attempt == MAX_RETRIES) {
+                    throw e;
+                }
+                retries.incrementAndGet();
+            }
+        }
     }
 
     Member createMember(String email)  {
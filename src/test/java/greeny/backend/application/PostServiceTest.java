@@ -0,0 +1,174 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.AuditEntity;
+import greeny.backend.domain.member.entity.Member;
+import greeny.backend.domain.member.entity.MemberRepository;
+import greeny.backend.domain.member.entity.Role;
+import greeny.backend.domain.post.application.PostLikeService;
+import greeny.backend.domain.post.application.PostService;
+import greeny.backend.domain.post.entity.Post;
+import greeny.backend.domain.post.entity.PostLikeRepository;
+import greeny.backend.domain.post.entity.PostRepository;
+import greeny.backend.domain.post.presentation.dto.EditPostRequestDto;
+import greeny.backend.exception.situation.member.MemberNotEqualsException;
+import greeny.backend.exception.situation.post.PostNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Slf4j
+class PostServiceTest {
+
+    @Autowired
+    PostService postService;
+    @Autowired
+    PostLikeService postLikeService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    PostRepository postRepository;
+    @Autowired
+    PostLikeRepository postLikeRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        postLikeRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deletePostWithBulkStatements() {
+        // Given
+        Member savedWriter = memberRepository.save(createMember("writer@naver.com"));
+        Member savedLiker = memberRepository.save(createMember("liker@naver.com"));
+        Post savedPost = postRepository.save(createPost(savedWriter));
+        postLikeService.like(savedPost.getId(), savedLiker);
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // When
+        postService.deletePost(savedPost.getId(), savedWriter);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(postRepository.existsById(savedPost.getId())).isFalse();
+        assertThat(postLikeRepository.count()).isZero();
+    }
+
+    @Test
+    void deletePostOfOtherMemberOrMissingPost() {
+        // Given
+        Member savedWriter = memberRepository.save(createMember("writer@naver.com"));
+        Member savedLiker = memberRepository.save(createMember("liker@naver.com"));
+        Post savedPost = postRepository.save(createPost(savedWriter));
+        postLikeService.like(savedPost.getId(), savedLiker);
+
+        // When, Then
+        assertThatThrownBy(() -> postService.deletePost(savedPost.getId(), savedLiker))
+                .isInstanceOf(MemberNotEqualsException.class);
+        assertThatThrownBy(() -> postService.deletePost(-1L, savedWriter))
+                .isInstanceOf(PostNotFoundException.class);
+        assertThat(postRepository.existsById(savedPost.getId())).isTrue();
+        assertThat(postLikeRepository.existsByPostIdAndLikerId(savedPost.getId(), savedLiker.getId())).isTrue();
+    }
+
+    @Test
+    void editPostTextWithSingleUpdate() {
+        // Given
+        Member savedWriter = memberRepository.save(createMember("writer@naver.com"));
+        Member savedOther = memberRepository.save(createMember("other@naver.com"));
+        Post savedPost = postRepository.save(createPost(savedWriter));
+        EditPostRequestDto editPostRequestDto = EditPostRequestDto.builder()
+                .title("수정된 제목")
+                .content("수정된 내용")
+                .build();
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // When
+        postService.editPostInfo(savedPost.getId(), editPostRequestDto, null, savedWriter);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(postRepository.findById(savedPost.getId()).orElseThrow().getTitle()).isEqualTo("수정된 제목");
+        assertThatThrownBy(() -> postService.editPostInfo(savedPost.getId(), editPostRequestDto, null, savedOther))
+                .isInstanceOf(MemberNotEqualsException.class);
+        assertThatThrownBy(() -> postService.editPostInfo(-1L, editPostRequestDto, null, savedWriter))
+                .isInstanceOf(PostNotFoundException.class);
+    }
+
+    @Test
+    void deletePostWithTenThousandLikes() {
+        // Given
+        Member savedWriter = memberRepository.save(createMember("writer@naver.com"));
+        Post savedPost = postRepository.save(createPost(savedWriter));
+        int numberOfLike = 10000;
+        insertLikes(savedPost.getId(), numberOfLike);
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // When
+        long start = System.nanoTime();
+        postService.deletePost(savedPost.getId(), savedWriter);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Deleted post with {} likes in {} ms", numberOfLike, elapsedMillis);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(postLikeRepository.count()).isZero();
+    }
+
+    // 좋아요한 회원과 좋아요를 엔티티를 거치지 않고 한 번에 저장
+    void insertLikes(Long postId, int numberOfLike) {
+        String now = AuditEntity.formatDateTime();
+        List<Object[]> likers = new ArrayList<>();
+        for (int i = 0; i < numberOfLike; i++) {
+            likers.add(new Object[]{"liker" + i + "@naver.com", Role.ROLE_USER.name(), false, now, now});
+        }
+        jdbcTemplate.batchUpdate("insert into Member (email, role, deleted, createdAt, updatedAt) values (?, ?, ?, ?, ?)", likers);
+        jdbcTemplate.update(
+                "insert into PostLike (post_id, liker_id, createdAt, updatedAt) " +
+                        "select ?, m.member_id, ?, ? from Member m where m.email like 'liker%'",
+                postId, now, now
+        );
+    }
+
+    Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    Member createMember(String email)  {
+        return Member.builder()
+                .email(email)
+                .role(Role.ROLE_USER)
+                .build();
+    }
+
+    Post createPost(Member writer) {
+        return Post.builder()
+                .writer(writer)
+                .title("안녕")
+                .content("반가워!")
+                .hits(0)
+                .hasPostFile(false)
+                .build();
+    }
+}
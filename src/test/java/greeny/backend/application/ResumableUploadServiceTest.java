@@ -0,0 +1,77 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.file.application.ResumableUploadService;
+import greeny.backend.domain.file.entity.ResumableUploadRepository;
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.domain.file.presentation.dto.ResumableUploadResponseDto;
+import greeny.backend.exception.situation.common.InvalidUploadLengthException;
+import greeny.backend.exception.situation.common.ResumableUploadNotFoundException;
+import greeny.backend.exception.situation.common.UploadOffsetConflictException;
+import greeny.backend.infrastructure.storage.FileService;
+import greeny.backend.infrastructure.storage.LocalFileStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.function.Function;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "resumable-upload.chunk-size=4")
+@ActiveProfiles({"dev", "local-storage"})
+class ResumableUploadServiceTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final Long UPLOADER_ID = 1L;
+
+    @Autowired
+    ResumableUploadService resumableUploadService;
+    @Autowired
+    FileService fileService;
+    @Autowired
+    LocalFileStorage localFileStorage;
+    @Autowired
+    ResumableUploadRepository resumableUploadRepository;
+    @Autowired
+    StoredFileRepository storedFileRepository;
+
+    @AfterEach
+    void cleanUp() {
+        resumableUploadRepository.deleteAllInBatch();
+        storedFileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void resumeFromProbedOffsetAndAttachOnce() throws Exception {
+        // Given
+        Long uploadId = resumableUploadService.create("photo.png", "image/png", CONTENT.length(), UPLOADER_ID).getUploadId();
+        resumableUploadService.appendChunk(uploadId, 0, chunk(0, 4), 4, UPLOADER_ID);
+
+        // When
+        assertThatThrownBy(() -> resumableUploadService.appendChunk(uploadId, 0, chunk(0, 4), 4, UPLOADER_ID))
+                .isInstanceOf(UploadOffsetConflictException.class);
+        assertThatThrownBy(() -> resumableUploadService.appendChunk(uploadId, 4, chunk(4, 7), 3, UPLOADER_ID))
+                .isInstanceOf(InvalidUploadLengthException.class);
+        long offset = resumableUploadService.getStatus(uploadId, UPLOADER_ID).getOffset();
+        resumableUploadService.appendChunk(uploadId, offset, chunk(4, 8), 4, UPLOADER_ID);
+        ResumableUploadResponseDto completed = resumableUploadService.appendChunk(uploadId, 8, chunk(8, 10), 2, UPLOADER_ID);
+
+        // Then
+        assertThat(offset).isEqualTo(4);
+        assertThat(completed.getCompleted()).isTrue();
+        List<String> fileKeys = fileService.attachUploadedFiles(null, List.of(uploadId), UPLOADER_ID, Function.identity());
+        assertThat(fileKeys).hasSize(1);
+        assertThat(Files.readString(localFileStorage.resolve(fileKeys.get(0)))).isEqualTo(CONTENT);
+        assertThatThrownBy(() -> fileService.attachUploadedFiles(null, List.of(uploadId), UPLOADER_ID, Function.identity()))
+                .isInstanceOf(ResumableUploadNotFoundException.class);
+    }
+
+    private ByteArrayInputStream chunk(int from, int to) {
+        return new ByteArrayInputStream(CONTENT.substring(from, to).getBytes(StandardCharsets.UTF_8));
+    }
+}
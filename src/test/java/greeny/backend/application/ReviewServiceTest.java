@@ -0,0 +1,323 @@
+package greeny.backend.application;
+
+import greeny.backend.domain.member.entity.Member;
+import greeny.backend.domain.member.entity.MemberRepository;
+import greeny.backend.domain.member.entity.Role;
+import greeny.backend.domain.product.entity.Product;
+import greeny.backend.domain.product.entity.ProductRepository;
+import greeny.backend.domain.review.application.ReviewHelpfulService;
+import greeny.backend.domain.review.application.ReviewService;
+import greeny.backend.domain.review.entity.ProductReview;
+import greeny.backend.domain.review.entity.ProductReviewRepository;
+import greeny.backend.domain.review.entity.RatingSummary;
+import greeny.backend.domain.review.entity.StoreReview;
+import greeny.backend.domain.review.entity.StoreReviewFile;
+import greeny.backend.domain.review.entity.StoreReviewFileRepository;
+import greeny.backend.domain.review.entity.StoreReviewHelpfulRepository;
+import greeny.backend.domain.review.presentation.dto.GetReviewListResponseDto;
+import greeny.backend.domain.review.presentation.dto.WriteReviewRequestDto;
+import greeny.backend.domain.review.entity.StoreReviewRepository;
+import greeny.backend.domain.store.entity.Store;
+import greeny.backend.domain.store.entity.StoreRepository;
+import greeny.backend.exception.situation.member.MemberNotEqualsException;
+import greeny.backend.exception.situation.review.ReviewNotFoundException;
+import greeny.backend.exception.situation.review.SelfHelpfulVoteNotAllowedException;
+import greeny.backend.response.CursorPage;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReviewServiceTest {
+
+    @Autowired
+    ReviewService reviewService;
+    @Autowired
+    ReviewHelpfulService reviewHelpfulService;
+    @Autowired
+    StoreReviewRepository storeReviewRepository;
+    @Autowired
+    StoreReviewHelpfulRepository storeReviewHelpfulRepository;
+    @Autowired
+    StoreReviewFileRepository storeReviewFileRepository;
+    @Autowired
+    StoreRepository storeRepository;
+    @Autowired
+    ProductReviewRepository productReviewRepository;
+    @Autowired
+    ProductRepository productRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        storeReviewHelpfulRepository.deleteAllInBatch();
+        storeReviewFileRepository.deleteAllInBatch();
+        storeReviewRepository.deleteAllInBatch();
+        productReviewRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        storeRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deleteStoreReviewWithGuardedStatements() {
+        // Given
+        Member savedReviewer = memberRepository.save(createMember("reviewer@naver.com"));
+        StoreReview savedReview = storeReviewRepository.save(createStoreReview(savedReviewer, storeRepository.save(createStore())));
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // When
+        reviewService.deleteStoreReview(savedReview.getId(), savedReviewer);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(storeReviewRepository.existsById(savedReview.getId())).isFalse();
+    }
+
+    @Test
+    void deleteStoreReviewOfOtherMemberOrMissingReview() {
+        // Given
+        Member savedReviewer = memberRepository.save(createMember("reviewer@naver.com"));
+        Member savedOther = memberRepository.save(createMember("other@naver.com"));
+        StoreReview savedReview = storeReviewRepository.save(createStoreReview(savedReviewer, storeRepository.save(createStore())));
+
+        // When, Then
+        assertThatThrownBy(() -> reviewService.deleteStoreReview(savedReview.getId(), savedOther))
+                .isInstanceOf(MemberNotEqualsException.class);
+        assertThatThrownBy(() -> reviewService.deleteStoreReview(-1L, savedReviewer))
+                .isInstanceOf(ReviewNotFoundException.class);
+        assertThat(storeReviewRepository.existsById(savedReview.getId())).isTrue();
+    }
+
+    @Test
+    void maintainRatingSummaryOnWriteAndDelete() {
+        // Given
+        Member savedReviewer = memberRepository.save(createMember("reviewer@naver.com"));
+        Store savedStore = storeRepository.save(createStore());
+        reviewService.writeStoreReview(savedStore.getId(), createWriteReviewRequestDto(5), savedReviewer);
+        reviewService.writeStoreReview(savedStore.getId(), createWriteReviewRequestDto(2), savedReviewer);
+        reviewService.writeStoreReview(savedStore.getId(), createWriteReviewRequestDto(2), savedReviewer);
+        Long lowReviewId = storeReviewRepository.findAll().stream()
+                .filter(storeReview -> storeReview.getStar() == 2)
+                .findFirst().orElseThrow().getId();
+
+        // When
+        reviewService.deleteStoreReview(lowReviewId, savedReviewer);
+
+        // Then
+        RatingSummary rating = storeRepository.findById(savedStore.getId()).orElseThrow().getRating();
+        assertThat(rating.getSum()).isEqualTo(7);
+        assertThat(rating.getCount()).isEqualTo(2);
+        assertThat(rating.getStarCounts()).containsExactly(0, 1, 0, 0, 1);
+        assertThat(rating.getAverage()).isEqualTo(3.5);
+        assertThat(rating.calculateAverage()).isEqualTo(3.5);
+    }
+
+    @Test
+    void getSimpleReviewInfosInOneQuery() {
+        // Given
+        Member savedReviewer = memberRepository.save(createMember("reviewer@naver.com"));
+        Store savedStore = storeRepository.save(createStore());
+        saveReviewsWithAndWithoutFile(savedReviewer, savedStore);
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // When
+        List<GetReviewListResponseDto> reviews = reviewService.getSimpleReviewInfos("STORE", savedStore.getId(), true, newestFirst()).getContent();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertReviewsWithAndWithoutFile(reviews);
+    }
+
+    @Test
+    void searchSimpleReviewInfosInOneQuery() {
+        // Given
+        Member savedReviewer = memberRepository.save(createMember("reviewer@naver.com"));
+        Store savedStore = storeRepository.save(createStore());
+        saveReviewsWithAndWithoutFile(savedReviewer, savedStore);
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // When
+        List<GetReviewListResponseDto> reviews = reviewService.searchSimpleReviewInfos("좋아", "STORE", true, newestFirst()).getContent();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertReviewsWithAndWithoutFile(reviews);
+        assertThat(reviews).allMatch(review -> savedStore.getId().equals(review.getIdByType()));
+    }
+
+    @Test
+    void getMemberReviewListInOneQuery() {
+        // Given
+        Member savedReviewer = memberRepository.save(createMember("reviewer@naver.com"));
+        Store savedStore = storeRepository.save(createStore());
+        saveReviewsWithAndWithoutFile(savedReviewer, savedStore);
+        storeReviewRepository.save(createStoreReview(memberRepository.save(createMember("other@naver.com")), savedStore));
+        Statistics statistics = getStatistics();
+        statistics.clear();
+
+        // When
+        List<GetReviewListResponseDto> reviews = reviewService.getMemberReviewList("STORE", newestFirst(), savedReviewer).getContent();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertReviewsWithAndWithoutFile(reviews);
+    }
+
+    @Test
+    void toggleHelpfulAndSortByHelpfulness() {
+        // Given
+        Member savedReviewer = memberRepository.save(createMember("reviewer@naver.com"));
+        Member savedVoter = memberRepository.save(createMember("voter@naver.com"));
+        Member savedOtherVoter = memberRepository.save(createMember("other@naver.com"));
+        Store savedStore = storeRepository.save(createStore());
+        StoreReview helpfulReview = storeReviewRepository.save(createStoreReview(savedReviewer, savedStore));
+        StoreReview toggledReview = storeReviewRepository.save(createStoreReview(savedReviewer, savedStore));
+
+        // When
+        reviewHelpfulService.toggle("STORE", helpfulReview.getId(), savedVoter);
+        reviewHelpfulService.toggle("STORE", helpfulReview.getId(), savedOtherVoter);
+        reviewHelpfulService.toggle("STORE", toggledReview.getId(), savedVoter);
+        reviewHelpfulService.toggle("STORE", toggledReview.getId(), savedVoter);
+
+        // Then
+        assertThatThrownBy(() -> reviewHelpfulService.toggle("STORE", helpfulReview.getId(), savedReviewer))
+                .isInstanceOf(SelfHelpfulVoteNotAllowedException.class);
+        assertThatThrownBy(() -> reviewHelpfulService.toggle("STORE", -1L, savedVoter))
+                .isInstanceOf(ReviewNotFoundException.class);
+        assertThat(storeReviewHelpfulRepository.count()).isEqualTo(2);
+        List<GetReviewListResponseDto> reviews = reviewService.getSimpleReviewInfos(
+                "STORE",
+                savedStore.getId(),
+                true,
+                PageRequest.of(0, 20, Sort.by(Sort.Order.desc("helpfulCount"), Sort.Order.desc("id")))
+        ).getContent();
+        assertThat(reviews).extracting(GetReviewListResponseDto::getId).containsExactly(helpfulReview.getId(), toggledReview.getId());
+        assertThat(reviews).extracting(GetReviewListResponseDto::getHelpfulCount).containsExactly(2, 0);
+    }
+
+    @Test
+    void mergeStoreAndProductReviewsIntoTimeline() {
+        // Given
+        Member savedReviewer = memberRepository.save(createMember("reviewer@naver.com"));
+        Store savedStore = storeRepository.save(createStore());
+        Product savedProduct = productRepository.save(createProduct(savedStore));
+        for (int i = 0; i < 3; i++) {
+            storeReviewRepository.save(createStoreReview(savedReviewer, savedStore));
+            productReviewRepository.save(createProductReview(savedReviewer, savedProduct));
+        }
+
+        // When
+        List<GetReviewListResponseDto> timeline = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<GetReviewListResponseDto> page = reviewService.getReviewTimeline(cursor, PageRequest.of(0, 4));
+            timeline.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(2);
+        assertThat(timeline).hasSize(6);
+        assertThat(timeline).extracting(GetReviewListResponseDto::getType)
+                .containsOnly("STORE", "PRODUCT")
+                .filteredOn("STORE"::equals).hasSize(3);
+        for (int i = 1; i < timeline.size(); i++) {
+            GetReviewListResponseDto previous = timeline.get(i - 1);
+            GetReviewListResponseDto current = timeline.get(i);
+            assertThat(previous.getCreatedAt()).isGreaterThanOrEqualTo(current.getCreatedAt());
+            if (previous.getType().equals(current.getType())) {
+                assertThat(previous.getId()).isGreaterThan(current.getId());
+            }
+        }
+    }
+
+    void saveReviewsWithAndWithoutFile(Member reviewer, Store store) {
+        storeReviewRepository.save(createStoreReview(reviewer, store));
+        StoreReview reviewWithFile = createStoreReview(reviewer, store);
+        reviewWithFile.getStoreReviewFiles().add(StoreReviewFile.getEntity(reviewWithFile, "review.png"));
+        storeReviewRepository.save(reviewWithFile);
+    }
+
+    void assertReviewsWithAndWithoutFile(List<GetReviewListResponseDto> reviews) {
+        assertThat(reviews).hasSize(2);
+        assertThat(reviews).extracting(GetReviewListResponseDto::isExistsFile).containsExactly(true, false);
+        assertThat(reviews).allMatch(review -> review.getWriterEmail().equals("reviewer@naver.com"));
+    }
+
+    WriteReviewRequestDto createWriteReviewRequestDto(int star) {
+        return WriteReviewRequestDto.builder()
+                .star(star)
+                .content("좋아요")
+                .build();
+    }
+
+    PageRequest newestFirst() {
+        return PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    Member createMember(String email)  {
+        return Member.builder()
+                .email(email)
+                .role(Role.ROLE_USER)
+                .build();
+    }
+
+    Store createStore() {
+        return Store.builder()
+                .category("카페")
+                .name("그리니 카페")
+                .webUrl("https://greeny.com")
+                .location("서울")
+                .build();
+    }
+
+    Product createProduct(Store store) {
+        return Product.builder()
+                .store(store)
+                .name("그리니 텀블러")
+                .deliveryFee(3000)
+                .price(15000)
+                .build();
+    }
+
+    ProductReview createProductReview(Member reviewer, Product product) {
+        return ProductReview.builder()
+                .reviewer(reviewer)
+                .product(product)
+                .star(4)
+                .content("좋아요")
+                .build();
+    }
+
+    StoreReview createStoreReview(Member reviewer, Store store) {
+        return StoreReview.builder()
+                .reviewer(reviewer)
+                .store(store)
+                .star(5)
+                .content("좋아요")
+                .build();
+    }
+}
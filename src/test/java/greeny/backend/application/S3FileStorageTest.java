@@ -0,0 +1,184 @@
+package greeny.backend.application;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import greeny.backend.domain.file.entity.StoredFileRepository;
+import greeny.backend.infrastructure.aws.PartBufferPool;
+import greeny.backend.infrastructure.storage.FileService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class S3FileStorageTest {
+
+    private static final int FILE_SIZE = 20 * 1024 * 1024;
+    private static final int CONCURRENT_UPLOADS = 20;
+
+    @Autowired
+    FileService fileService;
+    @Autowired
+    StoredFileRepository storedFileRepository;
+    @Autowired
+    PartBufferPool partBufferPool;
+    @MockBean
+    AmazonS3 s3Client;
+
+    @BeforeEach
+    void setUp() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(s3Client.initiateMultipartUpload(any())).thenReturn(initiateResult);
+        when(s3Client.uploadPart(any())).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            consume(request.getInputStream());
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+        when(s3Client.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            consume(((PutObjectRequest) invocation.getArgument(0)).getInputStream());
+            return new PutObjectResult();
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        storedFileRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void uploadSmallFileWithoutMultipart() {
+        // When
+        fileService.uploadFile(new MockMultipartFile("file", "image.png", "image/png", new byte[1024]));
+
+        // Then
+        verify(s3Client, times(1)).putObject(any(PutObjectRequest.class));
+        verify(s3Client, times(0)).initiateMultipartUpload(any());
+    }
+
+    @Test
+    void concurrentLargeUploadsDoNotBufferWholeFiles() throws Exception {
+        // When
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_UPLOADS);
+        List<Future<String>> uploads = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+            byte content = (byte) i;
+            uploads.add(executorService.submit(() -> fileService.uploadFile(new GeneratedMultipartFile(FILE_SIZE, content))));
+        }
+        for (Future<String> upload : uploads) {
+            upload.get();
+        }
+        executorService.shutdown();
+
+        // Then
+        verify(s3Client, times(CONCURRENT_UPLOADS)).completeMultipartUpload(any());
+        // 업로드 수와 관계없이 동시에 쓰인 파트 버퍼는 풀 크기를 넘지 않는다.
+        assertThat(partBufferPool.getMaxBorrowed()).isPositive().isLessThanOrEqualTo(partBufferPool.getMaxBuffers());
+        assertThat(partBufferPool.getMaxBuffers()).isLessThan(CONCURRENT_UPLOADS);
+    }
+
+    private static void consume(InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (inputStream.read(buffer) != -1) {
+            // 업로드된 내용은 버린다.
+        }
+    }
+
+    // 내용을 메모리에 올려두지 않고 읽을 때마다 만들어내는 업로드 파일
+    private static class GeneratedMultipartFile implements MultipartFile {
+
+        private final long size;
+        private final byte content;
+
+        GeneratedMultipartFile(long size, byte content) {
+            this.size = size;
+            this.content = content;
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "image.png";
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/png";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long remaining = size;
+
+                @Override
+                public int read() {
+                    if (remaining == 0) {
+                        return -1;
+                    }
+                    remaining--;
+                    return content & 0xff;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (remaining == 0) {
+                        return -1;
+                    }
+                    int read = (int) Math.min(len, remaining);
+                    Arrays.fill(b, off, off + read, content);
+                    remaining -= read;
+                    return read;
+                }
+            };
+        }
+
+        @Override
+        public void transferTo(java.io.File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}